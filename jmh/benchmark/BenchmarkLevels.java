@@ -0,0 +1,32 @@
+package benchmark;
+
+import game_object.StressLevelGenerator;
+import game_object.core.Game;
+
+/**
+ * Builds games of a given size for the benchmarks through StressLevelGenerator: a hero with
+ * the usual key triggers, half of the other sprites blocks, a twentieth power-ups and the rest
+ * enemies with AI. The same seed always gives the same level.
+ */
+public class BenchmarkLevels {
+
+	public static final long DEFAULT_SEED = 42;
+
+	private static final int POWER_UP_SHARE = 20;
+
+	/**
+	 * @param spriteCount the number of sprites in the level, hero included
+	 * @return a game with one level, which is the current level
+	 */
+	public static Game createGame(int spriteCount, long seed) {
+		int others = spriteCount - 1;
+		int blocks = others / 2;
+		int powerUps = others / POWER_UP_SHARE;
+		StressLevelGenerator generator = new StressLevelGenerator(seed);
+		generator.setBlockCount(blocks);
+		generator.setPowerUpCount(powerUps);
+		generator.setEnemyCount(others - blocks - powerUps);
+		return generator.generateGame();
+	}
+
+}
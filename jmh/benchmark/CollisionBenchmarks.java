@@ -0,0 +1,61 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import game_engine.collision.CollisionEngineFactory;
+import game_engine.collision.CollisionEngineType;
+import game_engine.collision.ICollisionEngine;
+
+/**
+ * CollisionEngine.checkCollisions, and that of every other broadphase, over a whole level.
+ *
+ * Collision response moves the sprites, so the calls are not alike: the first one pushes the
+ * sprites of the new level apart, the next ones find them resting. Each iteration therefore
+ * restores the level and times the first TICKS calls on it as one shot, the same calls every
+ * iteration; the score is the time of all TICKS calls.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = LevelState.TICKS)
+@Measurement(iterations = 20, batchSize = LevelState.TICKS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollisionBenchmarks {
+
+	@Param
+	public CollisionEngineType type;
+
+	private ICollisionEngine myEngine;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void createEngine(LevelState level) {
+		myEngine = new CollisionEngineFactory().createCollisionEngine(type);
+		myEngine.setLevel(level.getLevel());
+		myEngine.suppressLogDebug();
+	}
+
+	@Setup(org.openjdk.jmh.annotations.Level.Iteration)
+	public void restore(LevelState level) {
+		level.restore();
+	}
+
+	@Benchmark
+	public void checkCollisions(LevelState level, Blackhole blackhole) {
+		myEngine.checkCollisions(level.getLevel().getAllSprites());
+		blackhole.consume(myEngine);
+	}
+
+}
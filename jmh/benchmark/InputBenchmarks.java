@@ -0,0 +1,60 @@
+package benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import game_engine.inputcontroller.InputController;
+import game_object.acting.Event;
+import game_object.acting.KeyEvent;
+import game_object.core.Game;
+import game_object.level.Level;
+import javafx.scene.input.KeyCode;
+
+/**
+ * InputController.executeInput with the hero running and jumping. Input does not depend on
+ * the size of the level, so it is measured on one of INPUT_SPRITE_COUNT sprites only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InputBenchmarks {
+
+	private static final int INPUT_SPRITE_COUNT = 100;
+
+	private InputController myController;
+	private Level myLevel;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setUp() {
+		Game game = BenchmarkLevels.createGame(INPUT_SPRITE_COUNT, BenchmarkLevels.DEFAULT_SEED);
+		myLevel = game.getCurrentLevel();
+		myController = new InputController(game);
+		Set<Event> keys = new HashSet<>();
+		keys.add(new KeyEvent(KeyCode.D));
+		keys.add(new KeyEvent(KeyCode.W));
+		myController.setInputList(keys);
+	}
+
+	@Benchmark
+	public void executeInput(Blackhole blackhole) {
+		myController.executeInput();
+		blackhole.consume(myLevel.getHeros().get(0).getVelocity());
+	}
+
+}
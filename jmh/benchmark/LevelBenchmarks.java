@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import game_engine.ViewportCuller;
+import game_engine.collision.Boundary;
+import game_object.core.ISprite;
+
+/**
+ * The read-only walks over a level: Boundary.overlaps of every sprite against the screen,
+ * viewport culling, and Level.getAllSprites as the engine walks it several times a tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LevelBenchmarks {
+
+	private Boundary myScreen;
+	private List<Boundary> myBoundaries;
+	private ViewportCuller myCuller;
+	private long myTick;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setUp(LevelState level) {
+		myScreen = level.getLevel().getBoundary();
+		myBoundaries = new ArrayList<>();
+		for (ISprite sprite : level.getLevel().getAllSprites()) {
+			myBoundaries.add(new Boundary(sprite.getPosition(), sprite.getDimension()));
+		}
+		myCuller = new ViewportCuller();
+	}
+
+	@Benchmark
+	public int boundaryOverlaps() {
+		int count = 0;
+		for (Boundary boundary : myBoundaries) {
+			if (myScreen.overlaps(boundary)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public void viewportCull(LevelState level, Blackhole blackhole) {
+		// a new tick every call, so that the culler does not reuse the last pass
+		myCuller.cull(level.getLevel(), myTick++);
+		blackhole.consume(myCuller.getVisible());
+	}
+
+	@Benchmark
+	public void getAllSprites(LevelState level, Blackhole blackhole) {
+		for (ISprite sprite : level.getLevel().getAllSprites()) {
+			blackhole.consume(sprite.getPosition().getX());
+		}
+	}
+
+}
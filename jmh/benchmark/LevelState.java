@@ -0,0 +1,116 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game_object.character.Hero;
+import game_object.core.ISprite;
+import game_object.core.Position;
+import game_object.core.Velocity;
+import game_object.level.Level;
+
+/**
+ * A level of spriteCount sprites built by BenchmarkLevels, shared by the benchmarks of one
+ * trial.
+ *
+ * Collision response and physics move the sprites of the level, so a benchmark that changes
+ * it calls restore() before every iteration and times TICKS calls from there as one shot.
+ * restore() puts back the positions and velocities every sprite had when the level was built,
+ * so every iteration measures the same run of ticks.
+ */
+@State(Scope.Benchmark)
+public class LevelState {
+
+	/**
+	 * The calls timed after each restore(): a sixth of a second of a game at 60 frames per second.
+	 */
+	public static final int TICKS = 10;
+
+	@Param({ "100", "1000", "10000", "50000" })
+	public int spriteCount;
+
+	private Level myLevel;
+	private List<ISprite> mySprites;
+	private double[] myPositions;
+	private double[] myPreviousPositions;
+	private double[] myVelocities;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void build() {
+		myLevel = BenchmarkLevels.createGame(spriteCount, BenchmarkLevels.DEFAULT_SEED).getCurrentLevel();
+		mySprites = new ArrayList<>(myLevel.getAllSprites());
+		int n = mySprites.size();
+		myPositions = new double[2 * n];
+		myPreviousPositions = new double[2 * n];
+		myVelocities = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			ISprite sprite = mySprites.get(i);
+			save(sprite.getPosition(), myPositions, i);
+			save(sprite.getPreviousPosition(), myPreviousPositions, i);
+			save(sprite.getVelocity(), myVelocities, i);
+		}
+	}
+
+	/**
+	 * Puts every sprite back where it was when the level was built, at the speed it had then.
+	 */
+	public void restore() {
+		for (int i = 0; i < mySprites.size(); i++) {
+			ISprite sprite = mySprites.get(i);
+			restore(sprite.getPosition(), myPositions, i);
+			restore(sprite.getPreviousPosition(), myPreviousPositions, i);
+			restore(sprite.getVelocity(), myVelocities, i);
+		}
+	}
+
+	public Level getLevel() {
+		return myLevel;
+	}
+
+	/**
+	 * @return the sprites physics is applied to, as in GameEngine_Game: all but the heroes
+	 */
+	public List<ISprite> getPhysicsBodies() {
+		List<ISprite> bodies = new ArrayList<>();
+		for (ISprite sprite : myLevel.getAllSprites()) {
+			if (!(sprite instanceof Hero)) {
+				bodies.add(sprite);
+			}
+		}
+		return bodies;
+	}
+
+	private static void save(Position position, double[] values, int i) {
+		if (position != null) {
+			values[2 * i] = position.getX();
+			values[2 * i + 1] = position.getY();
+		}
+	}
+
+	private static void save(Velocity velocity, double[] values, int i) {
+		if (velocity != null) {
+			values[2 * i] = velocity.getXVelocity();
+			values[2 * i + 1] = velocity.getYVelocity();
+		}
+	}
+
+	private static void restore(Position position, double[] values, int i) {
+		if (position != null) {
+			position.setX(values[2 * i]);
+			position.setY(values[2 * i + 1]);
+		}
+	}
+
+	private static void restore(Velocity velocity, double[] values, int i) {
+		if (velocity != null) {
+			velocity.setXVelocity(values[2 * i]);
+			velocity.setYVelocity(values[2 * i + 1]);
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game_object.core.Game;
+import serializing.Marshaller;
+
+/**
+ * Marshaller.loadGame of games saved by the current model: those shipped in data/game, and a
+ * BenchmarkLevels game of spriteCount sprites that each trial saves to a temporary file
+ * first. The games in sample_game were saved by older versions of the model and no longer
+ * load. Loading is slow enough that the largest level of the other benchmarks is left out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshallerBenchmarks {
+
+	@Benchmark
+	public Game loadGame(SavedGame game) throws IOException {
+		return Marshaller.loadGame("file:" + game.myFile.getPath());
+	}
+
+	@Benchmark
+	public Game loadShippedGame(ShippedGame game) throws IOException {
+		return Marshaller.loadGame("file:" + game.path);
+	}
+
+	@State(Scope.Benchmark)
+	public static class SavedGame {
+
+		@Param({ "100", "1000", "10000" })
+		public int spriteCount;
+
+		private File myFile;
+
+		@Setup(org.openjdk.jmh.annotations.Level.Trial)
+		public void save() throws IOException {
+			myFile = File.createTempFile("benchmark", ".xml");
+			Marshaller.saveGame(BenchmarkLevels.createGame(spriteCount, BenchmarkLevels.DEFAULT_SEED),
+					"file:" + myFile.getPath());
+		}
+
+		@TearDown(org.openjdk.jmh.annotations.Level.Trial)
+		public void delete() {
+			myFile.delete();
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class ShippedGame {
+
+		@Param({ "data/game/Mario.xml", "data/game/doodlejump.xml", "data/game/flappybird2.xml" })
+		public String path;
+
+	}
+
+}
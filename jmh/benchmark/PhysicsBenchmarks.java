@@ -0,0 +1,76 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import game_engine.physics.BatchedPhysicsEngine;
+import game_engine.physics.PhysicsEngineWithFriction;
+import game_object.constants.DefaultConstants;
+import game_object.core.ISprite;
+import game_object.core.Position;
+import game_object.core.Velocity;
+
+/**
+ * One physics step of every body of a level, with PhysicsEngineWithFriction one body at a
+ * time and with BatchedPhysicsEngine as GameEngine_Game does it.
+ *
+ * Nothing stops the bodies falling here, so each iteration restores the level and times the
+ * first TICKS steps from it as one shot, the same steps every iteration; the score is the time
+ * of all TICKS steps.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = LevelState.TICKS)
+@Measurement(iterations = 20, batchSize = LevelState.TICKS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhysicsBenchmarks {
+
+	// one tick of a game at the default 60 frames per second
+	private static final double ELAPSED_TIME = DefaultConstants.TIME_SCALE / 60;
+
+	private PhysicsEngineWithFriction myEngine;
+	private BatchedPhysicsEngine myBatchedEngine;
+	private List<ISprite> myBodies;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void createEngines(LevelState level) {
+		myEngine = new PhysicsEngineWithFriction(level.getLevel());
+		myBatchedEngine = new BatchedPhysicsEngine(level.getLevel());
+		myBodies = level.getPhysicsBodies();
+	}
+
+	@Setup(org.openjdk.jmh.annotations.Level.Iteration)
+	public void restore(LevelState level) {
+		level.restore();
+	}
+
+	@Benchmark
+	public void withFriction(Blackhole blackhole) {
+		for (ISprite body : myBodies) {
+			Velocity velocity = myEngine.calculateNewVelocity(body, ELAPSED_TIME);
+			Position position = myEngine.calculateNewPosition(body, ELAPSED_TIME);
+			myEngine.updatePositionAndVelocity(position, velocity, body);
+		}
+		blackhole.consume(myBodies);
+	}
+
+	@Benchmark
+	public void batched(Blackhole blackhole) {
+		myBatchedEngine.integrate(myBodies, ELAPSED_TIME);
+		blackhole.consume(myBodies);
+	}
+
+}
@@ -1,23 +1,23 @@
 package authoring.controller;
 
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
 import java.util.ResourceBundle;
-import java.util.stream.Collectors;
 
 import authoring.AuthorEnvironment;
 import authoring.AuthoringController;
 import authoring.share.ShareEditController;
 import authoring.view.canvas.CanvasView;
 import authoring.view.canvas.SpriteView;
-import authoring.view.canvas.SpriteViewComparator;
 import game_object.core.Dimension;
 import game_object.core.ISprite;
 import game_object.core.Position;
 import game_object.level.Level;
+import game_object.visualization.ZOrderIndex;
+import game_player.image.ImageCache;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import javafx.scene.control.ScrollPane;
@@ -49,7 +49,8 @@ public class CanvasController implements Observer {
     private double myBackgroundWidth;
     private double myBackgroundHeight;
     private boolean myDoesSnap;
-    private SpriteViewComparator mySpriteViewComparator;
+    private ZOrderIndex<SpriteView> mySpriteViewOrder;
+    private boolean mySpriteViewsChanged;
     private ResourceBundle myCanvasProperties;
     private ResourceBundle myLanguageProperties;
 
@@ -66,7 +67,7 @@ public class CanvasController implements Observer {
         myEnvironment.addObserver(this);
 
         spriteViews = new HashMap<>();
-        mySpriteViewComparator = new SpriteViewComparator();
+        mySpriteViewOrder = new ZOrderIndex<>(spView -> spView.getSprite().getPosition().getZ());
         setOnDrag();
 
         initSpriteViews();
@@ -106,6 +107,8 @@ public class CanvasController implements Observer {
     public void delete(SpriteView spView, boolean share) {
         if (spView == null) return;
         spriteViews.remove(spView.getID());
+        mySpriteViewOrder.remove(spView);
+        mySpriteViewsChanged = true;
         myEnvironment.getCurrentLevel().removeSprite(spView.getSprite());
         this.reorderSpriteViewsWithPositionZ();
         if (share) {
@@ -187,15 +190,19 @@ public class CanvasController implements Observer {
         spView.setDimensionHeight(endY - startY, true);
     }
 
+    /**
+     * puts the SpriteViews back to front by position z
+     * only the views whose z changed are moved, and the UI is left alone if the order did not change
+     */
     public void reorderSpriteViewsWithPositionZ() {
-    	List<SpriteView> views = spriteViews.values()
-    			.stream()
-    			.sorted(mySpriteViewComparator)
-    			.collect(Collectors.toList());
+        if (!mySpriteViewOrder.update() && !mySpriteViewsChanged) {
+            return;
+        }
+        mySpriteViewsChanged = false;
         double hValue = myScrollPane.getHvalue();
         double vValue = myScrollPane.getVvalue();
         clearSpriteViews(false);
-        for (SpriteView spView : views) {
+        for (SpriteView spView : mySpriteViewOrder.getItems()) {
             myContent.getChildren().add(spView.getUI());
         }
         myScrollPane.setHvalue(hValue);
@@ -316,6 +323,8 @@ public class CanvasController implements Observer {
      */
     private void add(SpriteView spView, double x, double y, boolean relative) {
         spriteViews.put(spView.getID(), spView);
+        mySpriteViewOrder.add(spView);
+        mySpriteViewsChanged = true;
         spView.setCanvasView(myCanvas);
         myContent.getChildren().add(spView.getUI());
         if (relative) {
@@ -356,6 +365,7 @@ public class CanvasController implements Observer {
         myContent.getChildren().add(myBackground);
         if (data) {
             spriteViews.clear();
+            mySpriteViewOrder.setItems(Collections.emptyList());
         }
     }
 
@@ -368,7 +378,7 @@ public class CanvasController implements Observer {
             rectangle.setFill(Color.LIGHTCYAN);
             myBackground.getChildren().add(rectangle);
         } else {
-            Image backgroundImage = new Image(myEnvironment.getCurrentLevel().getBackground().getImagePaths().get(0));
+            Image backgroundImage = ImageCache.getInstance().get(myEnvironment.getCurrentLevel().getBackground().getImagePaths().get(0));
             double adjustedWidth = height * (backgroundImage.getWidth() / backgroundImage.getHeight());
             double usedWidth;
             for (usedWidth = adjustedWidth; usedWidth < width; usedWidth += adjustedWidth) {
@@ -20,9 +20,11 @@ public class TestGameController implements IEndListener {
 	public TestGameController (AuthoringController topController) {
 		myTopController = topController;
 		myTestView = new TestGameView(topController);
+		myTestView.setOnHidden(this::stopTestGame);
 	}
 
 	public void showTestGame() {
+		stopTestGame();
 		Game currentGame = myTopController.getEnvironment().getCurrentGame();
 		myRunner = new GameRunner(myTestView.getScene(), currentGame, level -> myTestView.updateUI(level), this);
 		myTestView.setRunningRoot(myRunner.getRunningView().getViews());
@@ -36,7 +38,15 @@ public class TestGameController implements IEndListener {
 		Level running = myRunner.getRunningLevel();
 		if (original == null || running == null) return;
 		myTopController.setParameter(original, option, value);
-		myTopController.setParameter(running, option, value);
+		// the running level may be ticked on the simulation thread
+		myRunner.runOnEngineThread(() -> running.getPhysicsParameters().set(option, value));
+	}
+
+	private void stopTestGame() {
+		if (myRunner != null) {
+			myRunner.stop();
+			myRunner = null;
+		}
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import java.util.ResourceBundle;
 
 import authoring.AuthoringController;
 import authoring.view.AbstractView;
+import game_player.image.ImageCache;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -38,7 +39,7 @@ public class CanvasAdjusterButtonsView extends AbstractView {
     private void setButton(Button button, int multiplier, String path) {
         button.setPrefWidth(Double.parseDouble(myCanvasProperties.getString("BUTTON_WIDTH")));
         button.setLayoutX(Double.parseDouble(myCanvasProperties.getString("BUTTON_WIDTH")) * multiplier);
-        Image image = new Image(path);
+        Image image = ImageCache.getInstance().get(path);
         button.setGraphic(new ImageView(image));
         button.setPrefHeight(Double.parseDouble(myCanvasProperties.getString("BUTTON_HEIGHT")));
     }
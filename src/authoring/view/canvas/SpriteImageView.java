@@ -4,6 +4,7 @@ import authoring.AuthoringController;
 import authoring.view.AbstractView;
 import authoring.view.IView;
 import game_object.core.ISprite;
+import game_player.image.ImageCache;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
@@ -47,7 +48,7 @@ public class SpriteImageView extends AbstractView {
     }
 
     private void initImageAndSprite(String path) {
-        myImage = new Image(path);
+        myImage = ImageCache.getInstance().get(path);
         setWidth(myImage.getWidth());
         setHeight(myImage.getHeight());
         updateLayout();
@@ -6,8 +6,8 @@ import java.util.ResourceBundle;
 
 import authoring.AuthoringController;
 import authoring.view.AbstractView;
+import game_player.image.ImageCache;
 import javafx.geometry.Pos;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.Dragboard;
@@ -80,7 +80,7 @@ public class ComponentView extends AbstractView implements Observer {
     }
 
     private void updateUI() {
-        myTemplateSpriteImageView.setImage(new Image(myComponent.getImagePath()));
+        myTemplateSpriteImageView.setImage(ImageCache.getInstance().get(myComponent.getImagePath()));
         myTitleText.setText(myComponent.getTitle());
         myDescriptionText.setText(myComponent.getDescription());
     }
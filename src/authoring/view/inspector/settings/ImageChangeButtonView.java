@@ -1,8 +1,8 @@
 package authoring.view.inspector.settings;
 
 import authoring.AuthoringController;
+import game_player.image.ImageCache;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
@@ -33,7 +33,7 @@ public class ImageChangeButtonView extends AbstractSettingsView {
 
     public boolean setImageFilename(String imageFilename) {
         try {
-            myImageView.setImage(new Image(imageFilename));
+            myImageView.setImage(ImageCache.getInstance().get(imageFilename));
             myImageFilename = imageFilename;
             return true;
         } catch (RuntimeException e) {
@@ -7,6 +7,7 @@ import game_engine.random.RandomGenerationController;
 import game_engine.random.RandomSpriteCluster;
 import game_engine.random.SpriteInfo;
 import game_object.core.ISprite;
+import game_player.image.ImageCache;
 import javafx.beans.property.DoubleProperty;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -157,7 +158,7 @@ public class RandomClusterElement extends AbstractGameMenuElement implements Obs
                 Double.parseDouble(myConstantProperties.getString("CLUSTER_SPRITE_HEIGHT"));
         hBox.setPrefWidth(mySize);
         hBox.setPrefHeight(miniSize);
-        ImageView imageView = new ImageView(sprite.getImagePath());
+        ImageView imageView = new ImageView(ImageCache.getInstance().get(sprite.getImagePath()));
         imageView.setFitHeight(miniSize);
         imageView.setFitWidth(miniSize);
         hBox.getChildren().add(imageView);
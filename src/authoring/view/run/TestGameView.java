@@ -27,6 +27,10 @@ public class TestGameView extends AbstractView {
 		myStage.show();
 	}
 
+	public void setOnHidden(Runnable handler) {
+		myStage.setOnHidden(event -> handler.run());
+	}
+
 	public Scene getScene() {
 		return myScene;
 	}
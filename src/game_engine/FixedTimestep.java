@@ -0,0 +1,59 @@
+package game_engine;
+
+/**
+ * Turns the time between rendered frames into a whole number of simulation ticks of a fixed
+ * length. The time left over is carried to the next frame, and getAlpha() tells how far the
+ * frame is into the next tick, so sprites can be drawn between the last two ticks.
+ *
+ * At most maxTicksPerFrame ticks are run per frame. Time beyond that is dropped, so after a
+ * long stall the game slows down for a moment instead of trying to catch up all at once.
+ */
+public class FixedTimestep {
+
+	private final double myTickLength;
+	private final int myMaxTicksPerFrame;
+	private double myAccumulator;
+
+	/**
+	 * @param tickLength seconds per simulation tick
+	 * @param maxTicksPerFrame the most ticks run for one frame
+	 */
+	public FixedTimestep(double tickLength, int maxTicksPerFrame) {
+		myTickLength = tickLength;
+		myMaxTicksPerFrame = maxTicksPerFrame;
+	}
+
+	/**
+	 * @param frameTime seconds since the last frame
+	 * @return how many ticks to run for this frame
+	 */
+	public int advance(double frameTime) {
+		myAccumulator += frameTime;
+		int ticks = (int) (myAccumulator / myTickLength);
+		myAccumulator -= ticks * myTickLength;
+		return Math.min(ticks, myMaxTicksPerFrame);
+	}
+
+	/**
+	 * @return how far the frame is from the last tick to the next one, from 0 to 1
+	 */
+	public double getAlpha() {
+		return myAccumulator / myTickLength;
+	}
+
+	public double getTickLength() {
+		return myTickLength;
+	}
+
+	public int getMaxTicksPerFrame() {
+		return myMaxTicksPerFrame;
+	}
+
+	/**
+	 * Forgets the time left over, e.g. after the game was paused.
+	 */
+	public void reset() {
+		myAccumulator = 0;
+	}
+
+}
@@ -3,19 +3,23 @@ package game_engine;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import game_engine.collision.Boundary;
-import game_engine.collision.CollisionEngine;
+import game_engine.collision.CollisionEngineFactory;
 import game_engine.collision.ICollisionEngine;
+import game_engine.collision.ICollisionEngineFactory;
 import game_engine.enemyai.EnemyControllerFactory;
 import game_engine.enemyai.IEnemyController;
 import game_engine.enemyai.IEnemyControllerFactory;
 import game_engine.inputcontroller.InputController;
+import game_engine.log.Log;
+import game_engine.log.Logger;
+import game_engine.physics.BatchedPhysicsEngine;
 import game_engine.physics.IPhysicsEngine;
-import game_engine.physics.PhysicsEngineWithFriction;
 import game_engine.physics.PhysicsHeroFollower;
 import game_engine.physics.PhysicsParameterSetOptions;
+import game_engine.profiling.FrameProfiler;
+import game_engine.profiling.ProfilerPhase;
+import game_engine.profiling.TickEvent;
 import game_engine.random.RandomGenerationController;
 import game_engine.transition.ITransitionManager;
 import game_engine.transition.TransitionManager;
@@ -27,7 +31,6 @@ import game_object.character.Enemy;
 import game_object.character.Hero;
 import game_object.character.IMover;
 import game_object.core.AbstractSprite;
-import game_object.core.Dimension;
 import game_object.core.Game;
 import game_object.core.ISprite;
 import game_object.core.Position;
@@ -42,9 +45,14 @@ import goal.time.TimeGoal;
 
 public class GameEngine_Game implements IGameEngine {
 
+	private static final Logger LOG = Log.getLogger(GameEngine_Game.class);
+
 	private Level myCurrentLevel;
-	private IPhysicsEngine myPhysicsEngine, myHeroFollowerEngine;
+	private BatchedPhysicsEngine myPhysicsEngine, myHeroPhysicsEngine;
+	private IPhysicsEngine myHeroFollowerEngine;
+	private List<IPhysicsBody> myPhysicsBodies, myHeroFollowers;
 	private ICollisionEngine myCollisionEngine;
+	private ICollisionEngineFactory myCollisionEngineFactory;
 	private ITransitionManager myTransitionManager;
 	private InputController myInputController;
 	private IEnemyController myEnemyController;
@@ -54,25 +62,61 @@ public class GameEngine_Game implements IGameEngine {
 	private double myElapsedTime;
 	private double myTotalTime;
 	private int myFPS;
+	private double myTickLength;
+	private FixedTimestep myTimestep;
 	private boolean myShutDown;
 	private boolean logSuppressed = false;
+	private FrameProfiler myProfiler;
+	private ViewportCuller myCuller;
+	private long myTickCount;
 
 	public GameEngine_Game(Game game, IEndListener endListener) {
+		this(game, endListener, new TransitionManager(game, game.getAllLevelsReadOnly().get(0)));
+	}
+
+	/**
+	 * @param transitionManager decides where to go when a level is won or lost, e.g. a
+	 *            HeadlessTransitionManager where there is no UI
+	 */
+	public GameEngine_Game(Game game, IEndListener endListener, ITransitionManager transitionManager) {
 		myCurrentLevel = game.getAllLevelsReadOnly().get(0);
 		init();
 		myEndListener = endListener;
 		game.setCurrentLevel(myCurrentLevel);
 		myCurrentLevel.init();
-		myPhysicsEngine = new PhysicsEngineWithFriction(myCurrentLevel);
+		myPhysicsEngine = new BatchedPhysicsEngine(myCurrentLevel);
+		myHeroPhysicsEngine = new BatchedPhysicsEngine(myCurrentLevel);
+		myPhysicsBodies = new ArrayList<>();
+		myHeroFollowers = new ArrayList<>();
 		myHeroFollowerEngine = new PhysicsHeroFollower(myCurrentLevel);
-		myCollisionEngine = new CollisionEngine();
+		myCollisionEngineFactory = new CollisionEngineFactory();
+		myCollisionEngine = myCollisionEngineFactory.createCollisionEngine(game.getCollisionEngineType(),
+				game.isParallelNarrowphase());
+		myCollisionEngine.setLevel(myCurrentLevel);
 		myInputController = new InputController(game);
 		myEnemyControllerFactory = new EnemyControllerFactory();
 		myEnemyController = myEnemyControllerFactory.createEnemyController(game.getEnemyDifficulty());
-		myTransitionManager = new TransitionManager(game, myCurrentLevel);
+		myTransitionManager = transitionManager;
+		myTransitionManager.setLevel(myCurrentLevel);
 		myFPS = game.getFPS();
+		if (game.getTickRate() > 0) {
+			myTimestep = new FixedTimestep(1.0 / game.getTickRate(), game.getMaxTicksPerFrame());
+			myTickLength = myTimestep.getTickLength();
+		} else {
+			myTickLength = 1.0 / myFPS;
+		}
 		myTotalTime = 0;
 		myGenerator = game.getRandomGenerationController();
+		myProfiler = new FrameProfiler();
+		myCuller = new ViewportCuller();
+	}
+
+	/**
+	 * @return the timings of the phases of update(), to be read on the thread that ticks the
+	 *         engine; the render diff is timed by the runner in a profiler of its own
+	 */
+	public FrameProfiler getProfiler() {
+		return myProfiler;
 	}
 
 	public void suppressLogDebug() {
@@ -80,6 +124,18 @@ public class GameEngine_Game implements IGameEngine {
 		myCollisionEngine.suppressLogDebug();
 	}
 
+	private boolean isLogging() {
+		return !logSuppressed && LOG.isDebugEnabled();
+	}
+
+	public void setCollisionEngine(ICollisionEngine collisionEngine) {
+		myCollisionEngine = collisionEngine;
+		myCollisionEngine.setLevel(myCurrentLevel);
+		if (logSuppressed) {
+			myCollisionEngine.suppressLogDebug();
+		}
+	}
+
 	private void init() {
 		// setElements(myCurrentLevel);
 		myCurrentLevel.init();
@@ -95,18 +151,77 @@ public class GameEngine_Game implements IGameEngine {
 		myEndListener.onEnd();
 	}
 
+	/**
+	 * Runs the simulation for one rendered frame. With a tick rate set on the game, that is as
+	 * many fixed ticks as fit in the frame, otherwise exactly one tick.
+	 * 
+	 * @param frameTime seconds since the last frame
+	 * @param timeScale elapsed time passed to update per second of a tick
+	 * @return the number of ticks run
+	 */
+	public int updateFrame(double frameTime, double timeScale) {
+		int ticks = myTimestep == null ? 1 : myTimestep.advance(frameTime);
+		for (int i = 0; i < ticks && !myShutDown; i++) {
+			update(timeScale * myTickLength);
+		}
+		return ticks;
+	}
+
+	/**
+	 * @return seconds of game time per tick
+	 */
+	public double getTickLength() {
+		return myTickLength;
+	}
+
+	/**
+	 * @return where to draw the sprites between the last two ticks, see
+	 *         ISpriteVisualization.getXForVisualization(double); 1 without a tick rate
+	 */
+	public double getInterpolationAlpha() {
+		return myTimestep == null ? 1 : myTimestep.getAlpha();
+	}
+
 	@Override
 	public void update(double elapsedTime) {
+		myTickCount++;
+		TickEvent event = new TickEvent();
+		event.begin();
+		myProfiler.beginTick();
+		tick(elapsedTime);
+		myProfiler.endTick();
+		event.end();
+		if (event.shouldCommit() && myCurrentLevel != null) {
+			event.setLevel(myCurrentLevel.getId(), myCurrentLevel.getAllSprites().size(), myPhysicsBodies.size());
+			event.setPhases(myProfiler);
+			event.commit();
+		}
+	}
+
+	private void tick(double elapsedTime) {
+		long begin = myProfiler.begin();
 		endCheck();
+		myProfiler.end(ProfilerPhase.GOAL_CHECK, begin);
 		if (myCurrentLevel == null) {
 			return;
 		}
 		updateTime();
 		if (myGenerator != null) {
+			begin = myProfiler.begin();
 			myGenerator.generateSprites(myCurrentLevel.getHeros().get(0).getPosition());
+			myProfiler.end(ProfilerPhase.RANDOM_GENERATION, begin);
 		}
 		setElapsedTime(elapsedTime);
+		begin = myProfiler.begin();
 		executeInput(); // input for heroes
+		myProfiler.end(ProfilerPhase.INPUT, begin);
+		// the heroes move first, so that the enemies go after where the heroes are now
+		begin = myProfiler.begin();
+		myHeroPhysicsEngine.integrate(myCurrentLevel.getHeros(), myElapsedTime);
+		long heroPhysics = myProfiler.elapsed(begin);
+		begin = myProfiler.begin();
+		myPhysicsBodies.clear();
+		myHeroFollowers.clear();
 		for (ISprite s : myCurrentLevel.getAllSprites()) {
 			// mimic enemy behavior; treat them as players
 			if (s instanceof Enemy && ((Enemy) s).hasAI()) {
@@ -118,17 +233,32 @@ public class GameEngine_Game implements IGameEngine {
 					myCurrentLevel.addSprite(p);
 				}
 			}
-			updateNewParameters(s);
+			if (s instanceof Projectile && ((Projectile) s).getModel().isFollowHero()) {
+				myHeroFollowers.add(s);
+			} else if (!(s instanceof Hero)) {
+				myPhysicsBodies.add(s);
+			}
+		}
+		myProfiler.end(ProfilerPhase.AI, begin);
+		begin = myProfiler.begin();
+		myPhysicsEngine.integrate(myPhysicsBodies, myElapsedTime);
+		for (IPhysicsBody body : myHeroFollowers) {
+			updateHeroFollower(body);
 		}
-		if (!logSuppressed) {
-			System.out.println(myCurrentLevel.getHeros().get(0));
+		myProfiler.record(ProfilerPhase.PHYSICS, heroPhysics + myProfiler.elapsed(begin));
+		if (isLogging()) {
+			LOG.debug(myCurrentLevel.getHeros().get(0)::toString);
 		}
+		begin = myProfiler.begin();
 		myCollisionEngine.checkCollisions(myCurrentLevel.getAllSprites());
+		myProfiler.end(ProfilerPhase.COLLISION, begin);
+		begin = myProfiler.begin();
 		updateLevel();
+		myProfiler.end(ProfilerPhase.LEVEL_UPDATE, begin);
 	}
 
 	public void updateTime() {
-		myTotalTime += 1.0 / myFPS;
+		myTotalTime += myTickLength;
 	}
 
 	@Override
@@ -144,30 +274,23 @@ public class GameEngine_Game implements IGameEngine {
 	private void updateLevel() {
 		Hero pivotHero = myCurrentLevel.getHeros().get(0);
 		if (pivotHero != null) {
-			AbstractSprite.getStaticPivotPosition().setX(pivotHero.getPosition().getX());
-			AbstractSprite.getStaticPivotPosition().setY(pivotHero.getPosition().getY());
+			AbstractSprite.setStaticPivotPosition(pivotHero.getPosition().getX(),
+					pivotHero.getPosition().getY());
 		}
 		myCurrentLevel.update();
 	}
 
-	private void updateNewParameters(IPhysicsBody body) {
-		if (body instanceof Projectile && ((Projectile) body).getModel().isFollowHero()) {
-			Velocity newVelocity = myHeroFollowerEngine.calculateNewVelocity(body, myElapsedTime);
-			Position newPosition = myHeroFollowerEngine.calculateNewPosition(body, myElapsedTime);
-			myHeroFollowerEngine.updatePositionAndVelocity(newPosition, newVelocity, body);
-		} else {
-			Velocity newVelocity = myPhysicsEngine.calculateNewVelocity(body, myElapsedTime);
-			Position newPosition = myPhysicsEngine.calculateNewPosition(body, myElapsedTime);
-			myPhysicsEngine.updatePositionAndVelocity(newPosition, newVelocity, body);
-		}
+	private void updateHeroFollower(IPhysicsBody body) {
+		Velocity newVelocity = myHeroFollowerEngine.calculateNewVelocity(body, myElapsedTime);
+		Position newPosition = myHeroFollowerEngine.calculateNewPosition(body, myElapsedTime);
+		myHeroFollowerEngine.updatePositionAndVelocity(newPosition, newVelocity, body);
 	}
 
 	private void endCheck () {
 	        WinStatus ws = checkWin();
 	        if (ws != WinStatus.GO_ON) {
-	            if (!logSuppressed) {
-	                System.out.println("transition");
-	                System.out.println(myCurrentLevel);
+	            if (isLogging()) {
+	                LOG.debug(() -> "transition from " + myCurrentLevel);
 	            }
 
 	            
@@ -177,6 +300,8 @@ public class GameEngine_Game implements IGameEngine {
 	                return;
 	            }
 	            myPhysicsEngine.setLevel(myCurrentLevel);
+	            myHeroPhysicsEngine.setLevel(myCurrentLevel);
+	            myCollisionEngine.setLevel(myCurrentLevel);
 	            init();
 	        }
 	    }
@@ -201,7 +326,7 @@ public class GameEngine_Game implements IGameEngine {
 	            if(h.getDead()){
 	                return WinStatus.LOST;
 	            }
-	            if(!myCurrentLevel.getMapEnd().overlaps(new Boundary(h.getPosition(),h.getDimension()))){
+	            if(!myCurrentLevel.getMapEnd().overlaps(h.getPosition(), h.getDimension())){
 	                return WinStatus.LOST;
 	            }
 	        }
@@ -222,35 +347,28 @@ public class GameEngine_Game implements IGameEngine {
 		return myCurrentLevel.getBackground();
 	}
 
+    /**
+     * @return the sprites off the screen, read-only and valid until the next tick
+     */
     public List<ISpriteVisualization> getSpritesOffScreen () {
-        if (myCurrentLevel == null) return new ArrayList<>();
-        List<ISpriteVisualization> l =
-                myCurrentLevel.getAllSprites().stream().filter(s -> !myCurrentLevel.getBoundary()
-                        .overlaps(new Boundary(new Position(s.getPosition().getX(),
-                                                            s.getPosition().getY()),
-                                               new Dimension(s.getDimension().getWidth(),
-                                                             s.getDimension().getHeight()))))
-                        .map(s -> (ISpriteVisualization) s).collect(Collectors.toList());
-        return l;
+        myCuller.cull(myCurrentLevel, myTickCount);
+        return myCuller.getOffScreen();
     }
     
+    /**
+     * @return the sprites on the screen, read-only and valid until the next tick
+     */
     @Override
     public List<ISpriteVisualization> getSprites () {
-    	if (myCurrentLevel == null) return new ArrayList<>();
-        List<ISpriteVisualization> l =
-                myCurrentLevel.getAllSprites().stream().filter(s -> myCurrentLevel.getBoundary()
-                        .overlaps(new Boundary(new Position(s.getPosition().getX(),
-                                                            s.getPosition().getY()),
-                                               new Dimension(s.getDimension().getWidth(),
-                                                             s.getDimension().getHeight()))))
-                        .map(s -> (ISpriteVisualization) s).collect(Collectors.toList());
-        if(!logSuppressed){
-            System.out.println(myCurrentLevel.getBoundary().right() + "right");
-            System.out.println(myCurrentLevel.getBoundary().left());
-            System.out.println(myCurrentLevel.getBoundary().top());
-            System.out.println(myCurrentLevel.getBoundary().bottom());
-            System.out.println(myCurrentLevel.getAllSpriteVisualizations().size() + " sprites");
-            System.out.println(l.size());
+        myCuller.cull(myCurrentLevel, myTickCount);
+        List<ISpriteVisualization> l = myCuller.getVisible();
+        if (isLogging() && myCurrentLevel != null) {
+            LOG.debug(() -> "screen left " + myCurrentLevel.getBoundary().left()
+                    + ", right " + myCurrentLevel.getBoundary().right()
+                    + ", top " + myCurrentLevel.getBoundary().top()
+                    + ", bottom " + myCurrentLevel.getBoundary().bottom()
+                    + "; " + l.size() + " of " + myCurrentLevel.getAllSpriteVisualizations().size()
+                    + " sprites visible");
         }
         return l;
     }
@@ -7,6 +7,8 @@ import game_engine.collision.AbstractCollisionEngine;
 import game_engine.collision.CollisionEngine;
 import game_engine.collision.ICollisionEngine;
 import game_engine.inputcontroller.InputController;
+import game_engine.log.Log;
+import game_engine.log.Logger;
 import game_engine.physics.AbstractPhysicsEngine;
 import game_engine.physics.IPhysicsEngine;
 import game_engine.physics.PhysicsEngineWithFriction;
@@ -37,6 +39,8 @@ public class GameEngine_Level implements IGameEngine {
 
 	private double myElapsedTime;
 
+	private static final Logger LOG = Log.getLogger(GameEngine_Level.class);
+
 	private Level myCurrentLevel;
 	private List<ISprite> mySprites;
 	
@@ -47,6 +51,7 @@ public class GameEngine_Level implements IGameEngine {
 		myCurrentLevel = level;
 		myPhysicsEngine = new PhysicsEngineWithFriction(myCurrentLevel);
 		myCollisionEngine = new CollisionEngine();
+		myCollisionEngine.setLevel(myCurrentLevel);
 		//myInputController = new InputController(level);
 		init();
 	}
@@ -84,6 +89,7 @@ public class GameEngine_Level implements IGameEngine {
 		for (ISprite s : mySprites) {
 			updateNewParameters(s);
 		}
+		myCurrentLevel.sweepSprites();
 		myCollisionEngine.checkCollisions(myCurrentLevel.getAllSprites());
 		updateScrolling();
 		endCheck();
@@ -92,8 +98,8 @@ public class GameEngine_Level implements IGameEngine {
 	private void updateScrolling() {
 		Hero pivotHero = myCurrentLevel.getHeros().get(0);
 		if (pivotHero != null) {
-			AbstractSprite.getStaticPivotPosition().setX(pivotHero.getPosition().getX());
-			AbstractSprite.getStaticPivotPosition().setY(pivotHero.getPosition().getY());
+			AbstractSprite.setStaticPivotPosition(pivotHero.getPosition().getX(),
+					pivotHero.getPosition().getY());
 		}
 	}
 	
@@ -146,6 +152,7 @@ public class GameEngine_Level implements IGameEngine {
 
 	public void setCollisionEngine(AbstractCollisionEngine collisionEngine) {
 		myCollisionEngine = collisionEngine;
+		myCollisionEngine.setLevel(myCurrentLevel);
 	}
 
 	public void setParameter(PhysicsParameterSetOptions parameter, double value) {
@@ -159,12 +166,11 @@ public class GameEngine_Level implements IGameEngine {
 	 * use for debugging the position and velocity of sprites
 	 */
 	public void printOutput() {
-		if (logSuppressed) return;
+		if (logSuppressed || !LOG.isDebugEnabled()) return;
 		for (ISprite s : mySprites) {
-			System.out.println("x = " + s.getPosition().getX() + " ; y = " + s.getPosition().getY());
-			System.out.println("vx = " + s.getVelocity().getXVelocity() + " ; vy = " + s.getVelocity().getYVelocity());
+			LOG.debug(() -> "x = " + s.getPosition().getX() + " ; y = " + s.getPosition().getY()
+					+ " ; vx = " + s.getVelocity().getXVelocity() + " ; vy = " + s.getVelocity().getYVelocity());
 		}
-		System.out.println();
 	}
 
 	@Override
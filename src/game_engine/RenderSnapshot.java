@@ -0,0 +1,199 @@
+package game_engine;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import game_engine.profiling.TickLog;
+import game_object.core.ImageStyle;
+import game_object.level.Level;
+import game_object.visualization.ISpriteVisualization;
+
+/**
+ * What the screen should show after one simulation tick, copied out of the sprites so that
+ * it can be drawn on another thread while the simulation goes on.
+ *
+ * Each sprite is stored with where it is drawn at the tick before (alpha 0) and at this tick
+ * (alpha 1), so the drawing thread can move it smoothly until the next snapshot. The values
+ * are kept in arrays, in the order the engine returned the sprites. The phase timings of the
+ * ticks run since the last snapshot come along, for the profiler of the drawing thread.
+ *
+ * The SimulationThread keeps two snapshots and fills them in turn, so the arrays are reused
+ * from tick to tick and only grow when there are more sprites than ever before. A snapshot is
+ * filled only while the drawing thread does not hold it, and does not change between
+ * SimulationThread.acquireSnapshot() and releaseSnapshot(). Only the HUD values are a new map
+ * every tick, as they are read from the HUD controller.
+ */
+public class RenderSnapshot {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final TickLog myTicks;
+	private volatile boolean myInUse;
+	private long mySequence;
+	private Level myLevel;
+	private long myTime;
+	private double myTickLength;
+	private boolean myShutDown;
+	private Map<String, String> myStatistics;
+	private int mySize;
+	private long[] myIds;
+	private String[] myImagePaths;
+	private ImageStyle[] myImageStyles;
+	private double[] myPreviousX, myPreviousY, myX, myY;
+	private double[] myWidth, myHeight, myZ;
+	private boolean[] myFacingLeft;
+
+	RenderSnapshot() {
+		myTicks = new TickLog();
+		myStatistics = Collections.emptyMap();
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Starts filling the snapshot anew; only called while the drawing thread does not hold it.
+	 *
+	 * @param ticks the ticks run since the last snapshot, copied into this one
+	 */
+	void reset(long sequence, Level level, int size, double tickLength, boolean shutDown,
+			Map<String, String> statistics, TickLog ticks) {
+		mySequence = sequence;
+		myLevel = level;
+		myTime = System.nanoTime();
+		myTickLength = tickLength;
+		myShutDown = shutDown;
+		myStatistics = statistics == null ? Collections.emptyMap() : Collections.unmodifiableMap(statistics);
+		myTicks.copyFrom(ticks);
+		if (size > myIds.length) {
+			allocate(Math.max(size, 2 * myIds.length));
+		}
+		// the sprites of a larger snapshot before are let go
+		Arrays.fill(myImagePaths, size, Math.max(size, mySize), null);
+		Arrays.fill(myImageStyles, size, Math.max(size, mySize), null);
+		mySize = size;
+	}
+
+	/**
+	 * Copies a sprite into the snapshot; only called between reset() and publishing it.
+	 */
+	void set(int index, long id, ISpriteVisualization sprite, double z) {
+		myIds[index] = id;
+		myImagePaths[index] = sprite.getImagePath();
+		myImageStyles[index] = sprite.getImageStyle();
+		myPreviousX[index] = sprite.getXForVisualization(0);
+		myPreviousY[index] = sprite.getYForVisualization(0);
+		myX[index] = sprite.getXForVisualization(1);
+		myY[index] = sprite.getYForVisualization(1);
+		myWidth[index] = sprite.getWidthForVisualization();
+		myHeight[index] = sprite.getHeightForVisualization();
+		myZ[index] = z;
+		myFacingLeft[index] = sprite.isFacingLeft();
+	}
+
+	boolean isInUse() {
+		return myInUse;
+	}
+
+	void setInUse(boolean inUse) {
+		myInUse = inUse;
+	}
+
+	/**
+	 * @return a number that is one higher for every snapshot published
+	 */
+	public long getSequence() {
+		return mySequence;
+	}
+
+	/**
+	 * @return the phase timings of the ticks run since the snapshot before
+	 */
+	public TickLog getTicks() {
+		return myTicks;
+	}
+
+	/**
+	 * @return the level the snapshot was taken in, or null once the game is over
+	 */
+	public Level getLevel() {
+		return myLevel;
+	}
+
+	public boolean isShutDown() {
+		return myShutDown;
+	}
+
+	/**
+	 * @return the HUD values at the time of the snapshot
+	 */
+	public Map<String, String> getStatistics() {
+		return myStatistics;
+	}
+
+	/**
+	 * @param now a System.nanoTime() value
+	 * @return how far the drawing is from the tick before (0) to this tick (1)
+	 */
+	public double getAlpha(long now) {
+		double alpha = (now - myTime) / (myTickLength * 1e9);
+		return Math.max(0, Math.min(1, alpha));
+	}
+
+	public int size() {
+		return mySize;
+	}
+
+	/**
+	 * @return a number that stays the same for a sprite from snapshot to snapshot
+	 */
+	public long getId(int index) {
+		return myIds[index];
+	}
+
+	public String getImagePath(int index) {
+		return myImagePaths[index];
+	}
+
+	public ImageStyle getImageStyle(int index) {
+		return myImageStyles[index];
+	}
+
+	public double getX(int index, double alpha) {
+		return myPreviousX[index] + alpha * (myX[index] - myPreviousX[index]);
+	}
+
+	public double getY(int index, double alpha) {
+		return myPreviousY[index] + alpha * (myY[index] - myPreviousY[index]);
+	}
+
+	public double getWidth(int index) {
+		return myWidth[index];
+	}
+
+	public double getHeight(int index) {
+		return myHeight[index];
+	}
+
+	public double getZ(int index) {
+		return myZ[index];
+	}
+
+	public boolean isFacingLeft(int index) {
+		return myFacingLeft[index];
+	}
+
+	private void allocate(int capacity) {
+		myIds = new long[capacity];
+		myImagePaths = new String[capacity];
+		myImageStyles = new ImageStyle[capacity];
+		myPreviousX = new double[capacity];
+		myPreviousY = new double[capacity];
+		myX = new double[capacity];
+		myY = new double[capacity];
+		myWidth = new double[capacity];
+		myHeight = new double[capacity];
+		myZ = new double[capacity];
+		myFacingLeft = new boolean[capacity];
+	}
+
+}
@@ -0,0 +1,257 @@
+package game_engine;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import game_engine.profiling.TickLog;
+import game_object.acting.Event;
+import game_object.core.Game;
+import game_object.core.ISprite;
+import game_object.visualization.ISpriteVisualization;
+
+/**
+ * Runs a GameEngine_Game on its own thread, so that a slow tick does not hold up input or
+ * drawing on the JavaFX application thread.
+ *
+ * After every tick the visible sprites are copied into the back one of two RenderSnapshots,
+ * which then replaces the published one in a single step: the drawing thread reads the front
+ * snapshot while the next one is filled. A snapshot the drawing thread still holds is not
+ * filled; the tick is then published with the next one. The phase timings of the ticks go to
+ * the drawing thread inside the snapshots, rather than through the engine's profiler. Key presses and releases go the other way through a lock-free queue and
+ * are applied at the start of the next tick, and so do commands that change the game, such as
+ * new physics parameters. Apart from those, nothing of the engine may be touched from another
+ * thread while the simulation runs.
+ */
+public class SimulationThread {
+
+	private final GameEngine_Game myEngine;
+	private final Game myGame;
+	private final double myTimeScale;
+	private final AtomicReference<RenderSnapshot> mySnapshot;
+	private final RenderSnapshot[] myBuffers;
+	private final TickLog myTicks;
+	private final Queue<KeyChange> myKeyChanges;
+	private final Queue<Runnable> myCommands;
+	private final Set<Event> myPressedKeys;
+	private final Map<ISpriteVisualization, Long> myIds;
+	private Supplier<Map<String, String>> myStatisticsSource;
+	private long myNextId;
+	private long mySequence;
+	private volatile boolean myRunning;
+	private Thread myThread;
+
+	/**
+	 * @param timeScale elapsed time passed to GameEngine_Game.update per second of a tick
+	 */
+	public SimulationThread(GameEngine_Game engine, Game game, double timeScale) {
+		myEngine = engine;
+		myGame = game;
+		myTimeScale = timeScale;
+		mySnapshot = new AtomicReference<>();
+		myBuffers = new RenderSnapshot[] { new RenderSnapshot(), new RenderSnapshot() };
+		myTicks = new TickLog();
+		myKeyChanges = new ConcurrentLinkedQueue<>();
+		myCommands = new ConcurrentLinkedQueue<>();
+		myPressedKeys = new HashSet<>();
+		myIds = new IdentityHashMap<>();
+	}
+
+	/**
+	 * @param statisticsSource read on the simulation thread after every tick, for the HUD
+	 */
+	public void setStatisticsSource(Supplier<Map<String, String>> statisticsSource) {
+		myStatisticsSource = statisticsSource;
+	}
+
+	public void start() {
+		myRunning = true;
+		myEngine.getProfiler().setTickLog(myTicks);
+		publish();
+		myThread = new Thread(this::run, "simulation");
+		myThread.setDaemon(true);
+		myThread.start();
+	}
+
+	/**
+	 * Stops the simulation after the tick it is in, if any.
+	 */
+	public void stop() {
+		myRunning = false;
+		if (myThread != null) {
+			LockSupport.unpark(myThread);
+		}
+	}
+
+	public boolean isRunning() {
+		return myRunning;
+	}
+
+	/**
+	 * Takes the latest snapshot, which is not filled again until it is given back with
+	 * releaseSnapshot(). May be called from any one thread.
+	 *
+	 * @return the latest snapshot, or null if there is none yet
+	 */
+	public RenderSnapshot acquireSnapshot() {
+		while (true) {
+			RenderSnapshot snapshot = mySnapshot.get();
+			if (snapshot == null) return null;
+			snapshot.setInUse(true);
+			// the snapshot may have become the back one, and be filled, in the meantime
+			if (mySnapshot.get() == snapshot) return snapshot;
+			snapshot.setInUse(false);
+		}
+	}
+
+	public void releaseSnapshot(RenderSnapshot snapshot) {
+		if (snapshot != null) {
+			snapshot.setInUse(false);
+		}
+	}
+
+	/**
+	 * May be called from any thread.
+	 */
+	public void keyPressed(Event key) {
+		myKeyChanges.add(new KeyChange(key, true));
+	}
+
+	/**
+	 * May be called from any thread.
+	 */
+	public void keyReleased(Event key) {
+		myKeyChanges.add(new KeyChange(key, false));
+	}
+
+	/**
+	 * May be called from any thread, e.g. when the level changes.
+	 */
+	public void releaseAllKeys() {
+		myKeyChanges.add(new KeyChange(null, false));
+	}
+
+	/**
+	 * May be called from any thread. The command is run on the simulation thread at the start
+	 * of the next tick, in the order commands were given.
+	 */
+	public void execute(Runnable command) {
+		myCommands.add(command);
+	}
+
+	private void run() {
+		long tickNanos = (long) (myEngine.getTickLength() * 1e9);
+		long last = System.nanoTime();
+		long next = last + tickNanos;
+		boolean unpublished = false;
+		while (myRunning && !myEngine.isShutDown()) {
+			long now = System.nanoTime();
+			if (now < next) {
+				LockSupport.parkNanos(next - now);
+				continue;
+			}
+			runCommands();
+			readKeyChanges();
+			myEngine.setInputList(myPressedKeys);
+			int ticks = myEngine.updateFrame((now - last) / 1e9, myTimeScale);
+			last = now;
+			unpublished |= ticks > 0;
+			if (unpublished && !myEngine.isShutDown()) {
+				unpublished = !publish();
+			}
+			// a late tick is not made up for by running the next ones early
+			next = Math.max(next + tickNanos, now);
+		}
+		// the drawing thread has to see that the game is over
+		while (myRunning && myEngine.isShutDown() && !publish()) {
+			LockSupport.parkNanos(tickNanos);
+		}
+		myRunning = false;
+	}
+
+	private void runCommands() {
+		Runnable command;
+		while ((command = myCommands.poll()) != null) {
+			command.run();
+		}
+	}
+
+	private void readKeyChanges() {
+		KeyChange change;
+		while ((change = myKeyChanges.poll()) != null) {
+			if (change.myKey == null) {
+				myPressedKeys.clear();
+			} else if (change.myPressed) {
+				myPressedKeys.add(change.myKey);
+			} else {
+				myPressedKeys.remove(change.myKey);
+			}
+		}
+	}
+
+	/**
+	 * @return false if the drawing thread still holds the back snapshot, which is left as it is
+	 */
+	private boolean publish() {
+		RenderSnapshot snapshot = mySnapshot.get() == myBuffers[0] ? myBuffers[1] : myBuffers[0];
+		if (snapshot.isInUse()) return false;
+		// the scroll offsets of the sprites off screen are kept up to date as well
+		for (ISpriteVisualization sprite : myEngine.getSpritesOffScreen()) {
+			sprite.getXForVisualization(1);
+			sprite.getYForVisualization(1);
+		}
+		List<ISpriteVisualization> sprites = myEngine.getSprites();
+		Map<String, String> statistics = myEngine.isShutDown() || myStatisticsSource == null ? null
+				: myStatisticsSource.get();
+		snapshot.reset(++mySequence, myEngine.isShutDown() ? null : myGame.getCurrentLevel(), sprites.size(),
+				myEngine.getTickLength(), myEngine.isShutDown(), statistics, myTicks);
+		myTicks.clear();
+		for (int i = 0; i < sprites.size(); i++) {
+			ISpriteVisualization sprite = sprites.get(i);
+			double z = sprite instanceof ISprite ? ((ISprite) sprite).getPosition().getZ() : 0;
+			snapshot.set(i, getId(sprite), sprite, z);
+		}
+		forgetRemovedSprites(sprites);
+		mySnapshot.set(snapshot);
+		return true;
+	}
+
+	private long getId(ISpriteVisualization sprite) {
+		Long id = myIds.get(sprite);
+		if (id == null) {
+			id = myNextId++;
+			myIds.put(sprite, id);
+		}
+		return id;
+	}
+
+	private void forgetRemovedSprites(List<ISpriteVisualization> sprites) {
+		// sprites that left the screen are forgotten now and then, not on every tick
+		if (myIds.size() > 2 * sprites.size() + 64) {
+			Set<ISpriteVisualization> present = Collections.newSetFromMap(new IdentityHashMap<>());
+			present.addAll(sprites);
+			myIds.keySet().retainAll(present);
+		}
+	}
+
+	private static class KeyChange {
+
+		private final Event myKey;
+		private final boolean myPressed;
+
+		private KeyChange(Event key, boolean pressed) {
+			myKey = key;
+			myPressed = pressed;
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+package game_engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import game_engine.collision.Boundary;
+import game_object.core.ISprite;
+import game_object.level.Level;
+import game_object.visualization.ISpriteVisualization;
+
+/**
+ * Splits the sprites of a level into those on the screen, Level.getBoundary(), and those off
+ * it, in one pass over Level.getAllSprites().
+ *
+ * Both lists are filled into buffers that are reused from tick to tick, and are only worked
+ * out again when the tick passed to cull() changes, so asking for the sprites on and off the
+ * screen several times a frame costs one pass. The lists keep the order of
+ * Level.getAllSprites() and stay valid until the next tick.
+ */
+public class ViewportCuller {
+
+	private final List<ISpriteVisualization> myVisible;
+	private final List<ISpriteVisualization> myOffScreen;
+	private final List<ISpriteVisualization> myVisibleView;
+	private final List<ISpriteVisualization> myOffScreenView;
+	private Level myLevel;
+	private long myTick;
+
+	public ViewportCuller() {
+		myVisible = new ArrayList<>();
+		myOffScreen = new ArrayList<>();
+		myVisibleView = Collections.unmodifiableList(myVisible);
+		myOffScreenView = Collections.unmodifiableList(myOffScreen);
+		myTick = -1;
+	}
+
+	/**
+	 * Sorts the sprites of the level into on and off the screen, unless that was already done
+	 * for this level and tick.
+	 */
+	public void cull(Level level, long tick) {
+		if (level == myLevel && tick == myTick) {
+			return;
+		}
+		myLevel = level;
+		myTick = tick;
+		myVisible.clear();
+		myOffScreen.clear();
+		if (level == null) {
+			return;
+		}
+		Boundary screen = level.getBoundary();
+		double left = screen.left();
+		double top = screen.top();
+		double width = screen.getDimension().getWidth();
+		double height = screen.getDimension().getHeight();
+		for (ISprite sprite : level.getAllSprites()) {
+			if (Boundary.overlaps(left, top, width, height,
+					sprite.getPosition().getX(), sprite.getPosition().getY(),
+					sprite.getDimension().getWidth(), sprite.getDimension().getHeight())) {
+				myVisible.add(sprite);
+			} else {
+				myOffScreen.add(sprite);
+			}
+		}
+	}
+
+	/**
+	 * @return a read-only view of the sprites on the screen as of the last cull()
+	 */
+	public List<ISpriteVisualization> getVisible() {
+		return myVisibleView;
+	}
+
+	/**
+	 * @return a read-only view of the sprites off the screen as of the last cull()
+	 */
+	public List<ISpriteVisualization> getOffScreen() {
+		return myOffScreenView;
+	}
+
+}
@@ -0,0 +1,301 @@
+package game_engine.collision;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_engine.profiling.CollisionPassEvent;
+import game_object.core.ISprite;
+
+
+/**
+ * Base class for collision engines that only test a candidate subset of all pairs.
+ *
+ * Subclasses find the candidate pairs; this class visits them in the same order as the
+ * nested loop of CollisionEngine, so collision directions and onCollideWith callbacks are
+ * the same. A callback can move a sprite (e.g. a hero pushed out of a block) into new
+ * overlaps. The subclass is then asked for the moved sprite's new neighbours, and those
+ * pairs are queued for the rest of the pass, just like the nested loop would still reach
+ * them.
+ *
+ * The bounds recorded for a sprite cover both its previous and its current position, so a
+ * sprite that moved further than its own size is paired with everything on its way.
+ *
+ * Every pass first sorts the sprites into CollisionBuckets, so pairs whose bit masks can
+ * never collide are dropped before any geometry is looked at.
+ *
+ * With a ForkJoinPool set, the overlap and direction of every candidate pair are first
+ * computed in parallel from the positions at the start of the pass. The callbacks are still
+ * made on the calling thread, in the order above; a pair whose sprites were moved by an
+ * earlier callback is tested again right then, so the outcome is the same as a serial pass.
+ *
+ * Pairs are packed into a long as (index of first sprite, index of second sprite), so the
+ * natural ordering of the longs is the order of the nested loop. The late pairs are kept in a
+ * LongHeap, so queueing them does not box them.
+ */
+public abstract class AbstractBroadphaseCollisionEngine extends AbstractCollisionEngine {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MIN_PARALLEL_PAIRS = 512;
+    private static final int PAIRS_PER_TASK = 256;
+
+    private final LongHeap myLatePairs;
+    protected final CollisionBuckets myBuckets;
+    private long[] myPairs;
+    private CollisionDirection[] myDirections;
+    private ForkJoinPool myPool;
+    private boolean[] myMovedThisPass;
+    private double[] myX, myY, myPreviousX, myPreviousY, myWidth, myHeight;
+    private int myPairCount;
+    private int myCapacity;
+    protected double[] myLeft, myTop, myRight, myBottom;
+
+    protected AbstractBroadphaseCollisionEngine () {
+        myLatePairs = new LongHeap();
+        myBuckets = new CollisionBuckets();
+        myPairs = new long[INITIAL_CAPACITY];
+        myDirections = new CollisionDirection[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param pool the pool to compute collision directions on, or null to run the whole pass
+     *        on the calling thread
+     */
+    public void setNarrowphasePool (ForkJoinPool pool) {
+        myPool = pool;
+    }
+
+    public ForkJoinPool getNarrowphasePool () {
+        return myPool;
+    }
+
+    @Override
+    public void checkCollisions (List<ISprite> sprites) {
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        ensureCapacity(sprites.size());
+        myContacts.beginPass();
+        myBuckets.partition(sprites);
+        for (int i = 0; i < sprites.size(); i++) {
+            recordBounds(i, sprites.get(i));
+            myMovedThisPass[i] = false;
+        }
+        myPairCount = 0;
+        findCandidatePairs(sprites);
+        Arrays.sort(myPairs, 0, myPairCount);
+        // the debug output of getCharacterCollision has to come out in pair order
+        boolean parallel = myPool != null && !isLogging() && myPairCount >= MIN_PARALLEL_PAIRS;
+        if (parallel) {
+            computeDirections(sprites);
+        }
+        myLatePairs.clear();
+        long previous = -1;
+        int next = 0;
+        int late = 0;
+        while (next < myPairCount || !myLatePairs.isEmpty()) {
+            long pair;
+            int computed = -1;
+            if (myLatePairs.isEmpty() ||
+                (next < myPairCount && myPairs[next] <= myLatePairs.peek())) {
+                computed = parallel ? next : -1;
+                pair = myPairs[next++];
+            }
+            else {
+                pair = myLatePairs.poll();
+                late++;
+            }
+            if (pair == previous) {
+                continue;
+            }
+            previous = pair;
+            int i = first(pair);
+            int j = second(pair);
+            if (computed >= 0 && isUnchanged(sprites, i) && isUnchanged(sprites, j)) {
+                collideComputed(sprites.get(i), sprites.get(j), myDirections[computed]);
+            }
+            else {
+                collide(sprites.get(i), sprites.get(j));
+            }
+            handleMove(sprites, i, pair);
+            handleMove(sprites, j, pair);
+        }
+        myContacts.endPass();
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(getClass(), sprites.size(), myPairCount, late, parallel);
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds, through addPair, every pair that may overlap given the bounds recorded for this
+     * pass. Adding a pair twice, a pair that does not overlap or a pair whose bit masks do not
+     * match is harmless. Sprites for which myBuckets.isInert is true never need a pair.
+     */
+    protected abstract void findCandidatePairs (List<ISprite> sprites);
+
+    /**
+     * Called after a callback moved sprite k, once its new bounds are recorded. Should pass
+     * every sprite that may now overlap k to queueLatePair.
+     */
+    protected abstract void onSpriteMoved (List<ISprite> sprites, int k, long current);
+
+    /**
+     * Grows the per-sprite arrays of a subclass.
+     */
+    protected void resize (int size) {
+    }
+
+    protected void addPair (int i, int j) {
+        if (i == j || !myBuckets.canCollide(i, j)) {
+            return;
+        }
+        if (myPairCount == myPairs.length) {
+            myPairs = Arrays.copyOf(myPairs, myPairs.length * 2);
+            myDirections = new CollisionDirection[myPairs.length];
+        }
+        myPairs[myPairCount++] = pair(Math.min(i, j), Math.max(i, j));
+    }
+
+    protected void queueLatePair (int k, int m, long current) {
+        if (k == m || !myBuckets.canCollide(k, m)) {
+            return;
+        }
+        long pair = pair(Math.min(k, m), Math.max(k, m));
+        if (pair > current) {
+            myLatePairs.add(pair);
+        }
+    }
+
+    /**
+     * @return whether the recorded bounds of i and j overlap, edges included, the same way
+     *         Boundary.overlaps does
+     */
+    protected boolean boundsOverlap (int i, int j) {
+        return myLeft[i] <= myRight[j] && myLeft[j] <= myRight[i] &&
+               myTop[i] <= myBottom[j] && myTop[j] <= myBottom[i];
+    }
+
+    protected int getCapacity () {
+        return myCapacity;
+    }
+
+    private void handleMove (List<ISprite> sprites, int k, long current) {
+        ISprite sprite = sprites.get(k);
+        if (hasChanged(k, sprite)) {
+            recordBounds(k, sprite);
+            myMovedThisPass[k] = true;
+            onSpriteMoved(sprites, k, current);
+        }
+    }
+
+    private void recordBounds (int k, ISprite sprite) {
+        myX[k] = sprite.getPosition().getX();
+        myY[k] = sprite.getPosition().getY();
+        myPreviousX[k] = sprite.getPreviousPosition().getX();
+        myPreviousY[k] = sprite.getPreviousPosition().getY();
+        myWidth[k] = sprite.getDimension().getWidth();
+        myHeight[k] = sprite.getDimension().getHeight();
+        myLeft[k] = Math.min(myX[k], myPreviousX[k]);
+        myTop[k] = Math.min(myY[k], myPreviousY[k]);
+        myRight[k] = Math.max(myX[k], myPreviousX[k]) + myWidth[k];
+        myBottom[k] = Math.max(myY[k], myPreviousY[k]) + myHeight[k];
+    }
+
+    /**
+     * @return whether sprite k moved or was resized since its bounds were recorded
+     */
+    private boolean hasChanged (int k, ISprite sprite) {
+        return sprite.getPosition().getX() != myX[k] || sprite.getPosition().getY() != myY[k] ||
+               sprite.getPreviousPosition().getX() != myPreviousX[k] ||
+               sprite.getPreviousPosition().getY() != myPreviousY[k] ||
+               sprite.getDimension().getWidth() != myWidth[k] ||
+               sprite.getDimension().getHeight() != myHeight[k];
+    }
+
+    private void computeDirections (List<ISprite> sprites) {
+        myPool.invoke(new DirectionTask(sprites, 0, myPairCount));
+    }
+
+    private void collideComputed (ISprite spriteA, ISprite spriteB, CollisionDirection collision) {
+        if (collision != CollisionDirection.NONE && canCollide(spriteA, spriteB)) {
+            notifyCollision(spriteA, spriteB, collision);
+        }
+    }
+
+    /**
+     * @return whether sprite k is still where it was when the directions were computed, i.e.
+     *         no callback of this pass moved it
+     */
+    private boolean isUnchanged (List<ISprite> sprites, int k) {
+        // a callback may also move a sprite other than the two it was called for
+        return !myMovedThisPass[k] && !hasChanged(k, sprites.get(k));
+    }
+
+    private void ensureCapacity (int size) {
+        if (myLeft == null || myCapacity < size) {
+            myCapacity = Math.max(size, INITIAL_CAPACITY);
+            myLeft = new double[myCapacity];
+            myTop = new double[myCapacity];
+            myRight = new double[myCapacity];
+            myBottom = new double[myCapacity];
+            myX = new double[myCapacity];
+            myY = new double[myCapacity];
+            myPreviousX = new double[myCapacity];
+            myPreviousY = new double[myCapacity];
+            myWidth = new double[myCapacity];
+            myHeight = new double[myCapacity];
+            myMovedThisPass = new boolean[myCapacity];
+            resize(myCapacity);
+        }
+    }
+
+    /**
+     * Packs two ints into one long, ordered by the first and then the second int.
+     */
+    protected static long pair (int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    protected static int first (long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    protected static int second (long pair) {
+        return (int) pair;
+    }
+
+    /**
+     * Fills myDirections for a range of myPairs, splitting the range until it is small.
+     */
+    private class DirectionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final List<ISprite> mySprites;
+        private final int myStart;
+        private final int myEnd;
+
+        DirectionTask (List<ISprite> sprites, int start, int end) {
+            mySprites = sprites;
+            myStart = start;
+            myEnd = end;
+        }
+
+        @Override
+        protected void compute () {
+            if (myEnd - myStart <= PAIRS_PER_TASK) {
+                for (int k = myStart; k < myEnd; k++) {
+                    myDirections[k] = computeCollisionDirection(mySprites.get(first(myPairs[k])),
+                                                              mySprites.get(second(myPairs[k])));
+                }
+                return;
+            }
+            int middle = (myStart + myEnd) >>> 1;
+            invokeAll(new DirectionTask(mySprites, myStart, middle),
+                      new DirectionTask(mySprites, middle, myEnd));
+        }
+
+    }
+
+}
@@ -1,5 +1,178 @@
 package game_engine.collision;
 
-public abstract class AbstractCollisionEngine implements ICollisionEngine{
-	
+import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_engine.log.Log;
+import game_engine.log.Logger;
+import game_object.core.ISprite;
+import game_object.core.Position;
+import game_object.level.Level;
+
+
+/**
+ * Holds the pair test shared by every collision engine, so that engines only differ in
+ * how they pick which pairs to test.
+ *
+ * @author Michael
+ * @author Charlie
+ * @author Grant
+ */
+public abstract class AbstractCollisionEngine implements ICollisionEngine {
+
+    private static final double COLLISION_THRESHOLD = 10.0;
+    private static final Logger LOG = Log.getLogger(AbstractCollisionEngine.class);
+    protected boolean logSuppressed = false;
+    protected Level myLevel;
+    protected final ContactManager myContacts = new ContactManager();
+
+    @Override
+    public void suppressLogDebug () {
+        logSuppressed = true;
+    }
+
+    /**
+     * @return whether getCharacterCollision writes its debug output
+     */
+    protected boolean isLogging () {
+        return !logSuppressed && LOG.isDebugEnabled();
+    }
+
+    @Override
+    public void setLevel (Level level) {
+        myLevel = level;
+        myContacts.clear();
+    }
+
+    @Override
+    public ContactManager getContactManager () {
+        return myContacts;
+    }
+
+    /**
+     * Tests a single pair and, if the two sprites can collide and overlap, notifies both of
+     * them. If either sprite moved further than its own size, the pair is also notified when
+     * the two paths crossed during the step, see SweptCollision.
+     *
+     * A pair that was already touching in the last pass, and whose sprites have not moved
+     * since, keeps the direction it had then.
+     *
+     * @param spriteA the sprite that came first in the level's sprite list
+     * @param spriteB the sprite that came second in the level's sprite list
+     */
+    protected void collide (ISprite spriteA, ISprite spriteB) {
+        if (canCollide(spriteA, spriteB)) {
+            if (overlaps(spriteA, spriteB)) {
+                CollisionDirection collision = myContacts.getCachedDirection(spriteA, spriteB);
+                if (collision == null) {
+                    collision = getCharacterCollision(spriteA, spriteB);
+                }
+                notifyCollision(spriteA, spriteB, collision);
+            }
+            else if (SweptCollision.isFast(spriteA) || SweptCollision.isFast(spriteB)) {
+                SweptCollision hit = SweptCollision.sweep(spriteA, spriteB);
+                if (hit != null) {
+                    notifyCollision(spriteA, spriteB, hit.getDirection());
+                }
+            }
+        }
+    }
+
+    protected boolean canCollide (ISprite spriteA, ISprite spriteB) {
+        return (spriteA.getCollisionBitMask() & spriteB.getCategoryBitMask()) != 0 &&
+               (spriteB.getCollisionBitMask() & spriteA.getCategoryBitMask()) != 0;
+    }
+
+    protected void notifyCollision (ISprite spriteA, ISprite spriteB,
+                                    CollisionDirection collision) {
+        myContacts.touch(spriteA, spriteB, collision);
+        spriteA.onCollideWith(spriteB, collision);
+        spriteB.onCollideWith(spriteA, collision.opposite());
+    }
+
+    protected CollisionDirection getCharacterCollision (ISprite character,
+                                                        ISprite otherSprite) {
+        if (overlaps(character, otherSprite)) {
+            if (isLogging()) {
+                Position previous = character.getPreviousPosition();
+                double bottom = previous.getY() + character.getDimension().getHeight();
+                double top = otherSprite.getPosition().getY();
+                boolean landing = couldLandOn(character, otherSprite);
+                LOG.debug(() -> "previous bottom " + bottom + ", other top " + top + ", could land " + landing);
+            }
+            return computeDirection(character, otherSprite);
+        }
+        return CollisionDirection.NONE;
+
+    }
+
+    /**
+     * @return the direction collide would report for the two sprites, ignoring their bit
+     *         masks, or NONE if they did not touch. Only reads the two sprites, so it is safe
+     *         to call from several threads at once.
+     */
+    protected CollisionDirection computeCollisionDirection (ISprite character,
+                                                            ISprite otherSprite) {
+        if (overlaps(character, otherSprite)) {
+            return computeDirection(character, otherSprite);
+        }
+        if (SweptCollision.isFast(character) || SweptCollision.isFast(otherSprite)) {
+            SweptCollision hit = SweptCollision.sweep(character, otherSprite);
+            if (hit != null) {
+                return hit.getDirection();
+            }
+        }
+        return CollisionDirection.NONE;
+    }
+
+    private CollisionDirection computeDirection (ISprite character, ISprite otherSprite) {
+        Position previous = character.getPreviousPosition();
+
+        double charLeft = previous.getX();
+        double charRight = charLeft + character.getDimension().getWidth();
+        double charTop = previous.getY();
+        double charBottom = charTop + character.getDimension().getHeight();
+
+        double blockTop = otherSprite.getPosition().getY();
+        double blockBottom = blockTop + otherSprite.getDimension().getHeight();
+        double blockLeft = otherSprite.getPosition().getX();
+        double blockRight = blockLeft + otherSprite.getDimension().getWidth();
+
+        boolean couldLandOnBlock = couldLandOn(character, otherSprite);
+        if ((charTop + COLLISION_THRESHOLD) >= blockBottom && couldLandOnBlock) {
+            return CollisionDirection.TOP;
+        }
+        else if ((charBottom - COLLISION_THRESHOLD) <= blockTop &&
+                 couldLandOnBlock) {
+            return CollisionDirection.BOTTOM;
+        }
+        else if (charLeft >= blockRight) {
+            return CollisionDirection.LEFT;
+        }
+
+        else if (charRight <= blockLeft) {
+            return CollisionDirection.RIGHT;
+        }
+        else {
+            return CollisionDirection.CORNER;
+        }
+    }
+
+    private boolean couldLandOn (ISprite character, ISprite otherSprite) {
+        double charLeft = character.getPreviousPosition().getX();
+        double charRight = charLeft + character.getDimension().getWidth();
+        double blockLeft = otherSprite.getPosition().getX();
+        double blockRight = blockLeft + otherSprite.getDimension().getWidth();
+        return (charLeft > blockLeft && charLeft < blockRight) ||
+               (charRight > blockLeft && charRight < blockRight) ||
+               (charLeft < blockLeft && charRight > blockRight);
+    }
+
+    private boolean overlaps (ISprite sprite, ISprite other) {
+        return Boundary.overlaps(sprite.getPosition().getX(), sprite.getPosition().getY(),
+                                 sprite.getDimension().getWidth(),
+                                 sprite.getDimension().getHeight(),
+                                 other.getPosition().getX(), other.getPosition().getY(),
+                                 other.getDimension().getWidth(),
+                                 other.getDimension().getHeight());
+    }
+
 }
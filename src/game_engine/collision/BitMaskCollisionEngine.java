@@ -0,0 +1,43 @@
+package game_engine.collision;
+
+import java.util.List;
+import game_object.core.ISprite;
+
+
+/**
+ * Collision engine without a spatial broadphase that only visits the bucket pairs of
+ * CollisionBuckets whose bit masks can interact. It tests every hero, enemy and projectile
+ * against every block, but never a block against a block.
+ *
+ * The spatial engines (GridCollisionEngine, SweepAndPruneCollisionEngine and
+ * StaticBlockCollisionEngine) apply the same bucket filter before their own geometry.
+ */
+public class BitMaskCollisionEngine extends AbstractBroadphaseCollisionEngine {
+
+    @Override
+    protected void findCandidatePairs (List<ISprite> sprites) {
+        for (int a = 0; a < myBuckets.getBucketCount(); a++) {
+            for (int b = a; b < myBuckets.getBucketCount(); b++) {
+                if (myBuckets.canInteract(a, b)) {
+                    addBucketPairs(a, b);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void onSpriteMoved (List<ISprite> sprites, int k, long current) {
+        // every pair that can interact is already a candidate, wherever the sprites are
+    }
+
+    private void addBucketPairs (int a, int b) {
+        int[] membersA = myBuckets.getMembers(a);
+        int[] membersB = myBuckets.getMembers(b);
+        for (int p = 0; p < myBuckets.getBucketSize(a); p++) {
+            for (int q = a == b ? p + 1 : 0; q < myBuckets.getBucketSize(b); q++) {
+                addPair(membersA[p], membersB[q]);
+            }
+        }
+    }
+
+}
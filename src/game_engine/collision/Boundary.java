@@ -28,28 +28,33 @@ public class Boundary {
      * @return whether or not this boundary overlaps other boundary
      */
     public boolean overlaps (Boundary other) {
-        if (this.contains(new Position(other.right(), other.top())) ||
-            this.contains(new Position(other.left(), other.top())) ||
-            this.contains(new Position(other.right(), other.bottom())) ||
-            this.contains(new Position(other.left(), other.bottom()))) {
-            return true;
-        }
-        if (other.contains(new Position(this.right(), this.top())) ||
-            other.contains(new Position(this.left(), this.top())) ||
-            other.contains(new Position(this.right(), this.bottom())) ||
-            other.contains(new Position(this.left(), this.bottom()))) {
-            return true;
-        }
+        return overlaps(other.getPosition(), other.getDimension());
+    }
 
-        return overlapEdges(this, other) || overlapEdges(other, this);
+    /**
+     * Same as overlaps(Boundary) for a body that is not wrapped in a Boundary.
+     * 
+     * @param position the top left of the other body
+     * @param dimension the size of the other body
+     * @return whether or not this boundary overlaps the other body
+     */
+    public boolean overlaps (Position position, Dimension dimension) {
+        return overlaps(myPosition.getX(), myPosition.getY(),
+                        myDimension.getWidth(), myDimension.getHeight(),
+                        position.getX(), position.getY(),
+                        dimension.getWidth(), dimension.getHeight());
     }
 
-    private boolean overlapEdges (Boundary a, Boundary b) {
-        if ((a.top() < b.top() && a.bottom() > b.bottom()) &&
-            (a.left() > b.left() && a.right() < b.right())) {
-            return true;
-        }
-        return false;
+    /**
+     * Overlap test on raw coordinates, so that hot paths do not need to allocate a Boundary.
+     * Touching edges count as overlapping.
+     * 
+     * @return whether or not the two boxes given by their top left corner and size overlap
+     */
+    public static boolean overlaps (double left1, double top1, double width1, double height1,
+                                    double left2, double top2, double width2, double height2) {
+        return left1 <= left2 + width2 && left2 <= left1 + width1 &&
+               top1 <= top2 + height2 && top2 <= top1 + height1;
     }
 
     public void expandToFit (Boundary other) {
@@ -106,13 +111,4 @@ public class Boundary {
         return myPosition;
     }
 
-    private boolean contains (Position pos) {
-        if (pos.getX() <= right() && pos.getX() >= left()) {
-            if (pos.getY() <= bottom() && pos.getY() >= top()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
 }
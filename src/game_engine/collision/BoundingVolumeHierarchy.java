@@ -0,0 +1,199 @@
+package game_engine.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import game_object.core.ISprite;
+
+
+/**
+ * A static AABB tree over sprites that do not move, such as the blocks of a level.
+ * The tree is built once from the sprites' bounds and answers which sprites overlap a
+ * given box, edges included, the same way Boundary.overlaps does.
+ *
+ * Nodes are kept in flat arrays and the tree is split top down at the median of the longest
+ * axis, so queries never allocate.
+ *
+ * @param <T> the type of sprite held by the tree
+ */
+public class BoundingVolumeHierarchy<T extends ISprite> {
+
+    private static final int LEAF_SIZE = 4;
+
+    private final List<T> myItems;
+    private final double[] myItemLeft, myItemTop, myItemRight, myItemBottom;
+    private final int[] myOrder;
+    private double[] myNodeLeft, myNodeTop, myNodeRight, myNodeBottom;
+    // a leaf covers myOrder[myStart, myStart + myCount), an inner node has myCount 0
+    private int[] myStart, myCount, myLeftChild, myRightChild;
+    private int myNodeCount;
+    private int[] myStack;
+    private int myCollisionMask;
+    private int myCategoryMask;
+
+    public BoundingVolumeHierarchy (List<? extends T> items) {
+        myItems = new ArrayList<>(items);
+        int size = myItems.size();
+        myItemLeft = new double[size];
+        myItemTop = new double[size];
+        myItemRight = new double[size];
+        myItemBottom = new double[size];
+        myOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            T item = myItems.get(i);
+            myItemLeft[i] = item.getPosition().getX();
+            myItemTop[i] = item.getPosition().getY();
+            myItemRight[i] = myItemLeft[i] + item.getDimension().getWidth();
+            myItemBottom[i] = myItemTop[i] + item.getDimension().getHeight();
+            myOrder[i] = i;
+            myCollisionMask |= item.getCollisionBitMask();
+            myCategoryMask |= item.getCategoryBitMask();
+        }
+        int maxNodes = Math.max(1, 2 * size);
+        myNodeLeft = new double[maxNodes];
+        myNodeTop = new double[maxNodes];
+        myNodeRight = new double[maxNodes];
+        myNodeBottom = new double[maxNodes];
+        myStart = new int[maxNodes];
+        myCount = new int[maxNodes];
+        myLeftChild = new int[maxNodes];
+        myRightChild = new int[maxNodes];
+        myStack = new int[64];
+        if (size > 0) {
+            build(0, size);
+        }
+    }
+
+    public int size () {
+        return myItems.size();
+    }
+
+    public List<T> getItems () {
+        return myItems;
+    }
+
+    /**
+     * @return whether any two sprites in the tree may collide with each other, going by
+     *         their bit masks when the tree was built
+     */
+    public boolean canCollideWithEachOther () {
+        return (myCollisionMask & myCategoryMask) != 0;
+    }
+
+    /**
+     * @param item the index of the sprite in getItems()
+     * @return whether the sprite moved or was resized since the tree was built, in which
+     *         case the tree only knows its old bounds
+     */
+    public boolean hasMoved (int item) {
+        T sprite = myItems.get(item);
+        double left = sprite.getPosition().getX();
+        double top = sprite.getPosition().getY();
+        return left != myItemLeft[item] || top != myItemTop[item] ||
+               left + sprite.getDimension().getWidth() != myItemRight[item] ||
+               top + sprite.getDimension().getHeight() != myItemBottom[item];
+    }
+
+    /**
+     * Appends every sprite whose bounds overlap the given box to result.
+     */
+    public void query (double left, double top, double right, double bottom, List<T> result) {
+        if (myNodeCount == 0) {
+            return;
+        }
+        int stackSize = 0;
+        myStack[stackSize++] = 0;
+        while (stackSize > 0) {
+            int node = myStack[--stackSize];
+            if (myNodeLeft[node] > right || myNodeRight[node] < left ||
+                myNodeTop[node] > bottom || myNodeBottom[node] < top) {
+                continue;
+            }
+            if (myCount[node] > 0) {
+                for (int k = myStart[node]; k < myStart[node] + myCount[node]; k++) {
+                    int i = myOrder[k];
+                    if (myItemLeft[i] <= right && left <= myItemRight[i] &&
+                        myItemTop[i] <= bottom && top <= myItemBottom[i]) {
+                        result.add(myItems.get(i));
+                    }
+                }
+                continue;
+            }
+            if (stackSize + 2 > myStack.length) {
+                int[] stack = new int[myStack.length * 2];
+                System.arraycopy(myStack, 0, stack, 0, stackSize);
+                myStack = stack;
+            }
+            myStack[stackSize++] = myLeftChild[node];
+            myStack[stackSize++] = myRightChild[node];
+        }
+    }
+
+    private int build (int start, int end) {
+        int node = myNodeCount++;
+        double left = Double.POSITIVE_INFINITY, top = Double.POSITIVE_INFINITY;
+        double right = Double.NEGATIVE_INFINITY, bottom = Double.NEGATIVE_INFINITY;
+        for (int k = start; k < end; k++) {
+            int i = myOrder[k];
+            left = Math.min(left, myItemLeft[i]);
+            top = Math.min(top, myItemTop[i]);
+            right = Math.max(right, myItemRight[i]);
+            bottom = Math.max(bottom, myItemBottom[i]);
+        }
+        myNodeLeft[node] = left;
+        myNodeTop[node] = top;
+        myNodeRight[node] = right;
+        myNodeBottom[node] = bottom;
+        if (end - start <= LEAF_SIZE) {
+            myStart[node] = start;
+            myCount[node] = end - start;
+            return node;
+        }
+        boolean splitOnX = right - left >= bottom - top;
+        int middle = (start + end) >>> 1;
+        select(start, end - 1, middle, splitOnX);
+        myCount[node] = 0;
+        myLeftChild[node] = build(start, middle);
+        myRightChild[node] = build(middle, end);
+        return node;
+    }
+
+    /**
+     * Partially sorts myOrder[low..high] by box center so that the k-th element is in place.
+     */
+    private void select (int low, int high, int k, boolean onX) {
+        while (high > low) {
+            double pivot = center(myOrder[(low + high) >>> 1], onX);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (center(myOrder[i], onX) < pivot) {
+                    i++;
+                }
+                while (center(myOrder[j], onX) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = myOrder[i];
+                    myOrder[i] = myOrder[j];
+                    myOrder[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            }
+            else if (k >= i) {
+                low = i;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    private double center (int i, boolean onX) {
+        return onX ? myItemLeft[i] + myItemRight[i] : myItemTop[i] + myItemBottom[i];
+    }
+
+}
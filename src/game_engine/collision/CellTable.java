@@ -0,0 +1,155 @@
+package game_engine.collision;
+
+import java.util.Arrays;
+
+
+/**
+ * The cells of a uniform grid that hold sprites, for GridCollisionEngine, kept in primitive
+ * arrays so that filling the grid every pass neither boxes cell keys and sprite indices nor
+ * allocates once the arrays are large enough.
+ *
+ * Cells are found by their packed key in an open-addressed hash table with linear probing.
+ * The sprites of a cell are a linked list of entries, newest first. A slot only counts as
+ * used if it was stamped in the current generation, so clear() forgets every cell at once
+ * without touching the table. Slot numbers change when the table grows, i.e. in getCell.
+ */
+class CellTable {
+
+    private static final int INITIAL_SLOTS = 256;
+    private static final int INITIAL_ENTRIES = 256;
+    private static final int NONE = -1;
+
+    private long[] myKeys;
+    private int[] myStamps;
+    private int[] myHeads;
+    private int[] myUsedSlots;
+    private int myUsedCount;
+    private int myGeneration;
+    private int[] myEntrySprites;
+    private int[] myEntryNext;
+    private int myEntryCount;
+
+    CellTable () {
+        allocateSlots(INITIAL_SLOTS);
+        myEntrySprites = new int[INITIAL_ENTRIES];
+        myEntryNext = new int[INITIAL_ENTRIES];
+        myGeneration = 1;
+    }
+
+    /**
+     * Empties every cell.
+     */
+    void clear () {
+        myGeneration++;
+        if (myGeneration == 0) {
+            // the stamps came round again, so an old one could pass for a current one
+            Arrays.fill(myStamps, 0);
+            myGeneration = 1;
+        }
+        myUsedCount = 0;
+        myEntryCount = 0;
+    }
+
+    /**
+     * @return the slot of the cell, which is added empty if it is not used yet
+     */
+    int getCell (long key) {
+        if (2 * (myUsedCount + 1) > myKeys.length) {
+            rehash(2 * myKeys.length);
+        }
+        int mask = myKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (myStamps[slot] == myGeneration) {
+            if (myKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        myStamps[slot] = myGeneration;
+        myKeys[slot] = key;
+        myHeads[slot] = NONE;
+        myUsedSlots[myUsedCount++] = slot;
+        return slot;
+    }
+
+    void add (int cell, int sprite) {
+        if (myEntryCount == myEntrySprites.length) {
+            myEntrySprites = Arrays.copyOf(myEntrySprites, 2 * myEntryCount);
+            myEntryNext = Arrays.copyOf(myEntryNext, 2 * myEntryCount);
+        }
+        myEntrySprites[myEntryCount] = sprite;
+        myEntryNext[myEntryCount] = myHeads[cell];
+        myHeads[cell] = myEntryCount++;
+    }
+
+    boolean contains (int cell, int sprite) {
+        for (int entry = myHeads[cell]; entry != NONE; entry = myEntryNext[entry]) {
+            if (myEntrySprites[entry] == sprite) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of cells used since clear()
+     */
+    int getUsedCount () {
+        return myUsedCount;
+    }
+
+    /**
+     * @return the slot of the n-th cell used since clear()
+     */
+    int getUsedCell (int n) {
+        return myUsedSlots[n];
+    }
+
+    long getKey (int cell) {
+        return myKeys[cell];
+    }
+
+    /**
+     * @return the newest entry of the cell, or a negative number if it is empty
+     */
+    int getFirstEntry (int cell) {
+        return myHeads[cell];
+    }
+
+    /**
+     * @return the entry added to the same cell before this one, or a negative number
+     */
+    int getNextEntry (int entry) {
+        return myEntryNext[entry];
+    }
+
+    int getSprite (int entry) {
+        return myEntrySprites[entry];
+    }
+
+    private void rehash (int slots) {
+        long[] keys = myKeys;
+        int[] heads = myHeads;
+        int[] used = myUsedSlots;
+        int usedCount = myUsedCount;
+        allocateSlots(slots);
+        myUsedCount = 0;
+        for (int n = 0; n < usedCount; n++) {
+            int cell = getCell(keys[used[n]]);
+            myHeads[cell] = heads[used[n]];
+        }
+    }
+
+    private void allocateSlots (int slots) {
+        myKeys = new long[slots];
+        myStamps = new int[slots];
+        myHeads = new int[slots];
+        myUsedSlots = new int[slots / 2];
+    }
+
+    private static int hash (long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+}
@@ -0,0 +1,145 @@
+package game_engine.collision;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import game_object.core.ISprite;
+
+
+/**
+ * Partitions the sprites of a collision pass into buckets of sprites sharing the same
+ * category and collision bit masks, e.g. all heroes, all blocks, all hero projectiles.
+ *
+ * Two sprites can only collide if each one's collision bit mask contains the other's
+ * category, so whether two buckets can ever interact is decided once per bucket pair instead
+ * of once per sprite pair. Blocks never collide with blocks and power-ups never collide with
+ * projectiles, so those bucket pairs are never visited.
+ *
+ * Bucket ids stay the same between passes. The masks are read when the pass starts.
+ */
+public class CollisionBuckets {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Integer> myBucketOfMasks;
+    private int[] myCategoryMask, myCollisionMask;
+    private boolean[][] myInteracts;
+    private boolean[] myInert;
+    private int[][] myMembers;
+    private int[] mySizes;
+    private int myBucketCount;
+    private int[] mySpriteBucket;
+
+    public CollisionBuckets () {
+        myBucketOfMasks = new HashMap<>();
+        myCategoryMask = new int[INITIAL_CAPACITY];
+        myCollisionMask = new int[INITIAL_CAPACITY];
+        myInteracts = new boolean[INITIAL_CAPACITY][INITIAL_CAPACITY];
+        myInert = new boolean[INITIAL_CAPACITY];
+        myMembers = new int[INITIAL_CAPACITY][];
+        mySizes = new int[INITIAL_CAPACITY];
+        mySpriteBucket = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Sorts the sprites of this pass into their buckets. Within a bucket, sprites keep the
+     * order of the list.
+     */
+    public void partition (List<ISprite> sprites) {
+        Arrays.fill(mySizes, 0, myBucketCount, 0);
+        if (mySpriteBucket.length < sprites.size()) {
+            mySpriteBucket = new int[sprites.size()];
+        }
+        for (int i = 0; i < sprites.size(); i++) {
+            ISprite sprite = sprites.get(i);
+            int bucket = getBucket(sprite.getCategoryBitMask(), sprite.getCollisionBitMask());
+            mySpriteBucket[i] = bucket;
+            if (mySizes[bucket] == myMembers[bucket].length) {
+                myMembers[bucket] = Arrays.copyOf(myMembers[bucket], 2 * mySizes[bucket]);
+            }
+            myMembers[bucket][mySizes[bucket]++] = i;
+        }
+    }
+
+    public int getBucketCount () {
+        return myBucketCount;
+    }
+
+    /**
+     * @return the indices of the sprites in the bucket, valid up to getBucketSize(bucket)
+     */
+    public int[] getMembers (int bucket) {
+        return myMembers[bucket];
+    }
+
+    public int getBucketSize (int bucket) {
+        return mySizes[bucket];
+    }
+
+    public boolean canInteract (int bucketA, int bucketB) {
+        return myInteracts[bucketA][bucketB];
+    }
+
+    /**
+     * @return whether the sprites at index i and j of this pass can collide at all
+     */
+    public boolean canCollide (int i, int j) {
+        return myInteracts[mySpriteBucket[i]][mySpriteBucket[j]];
+    }
+
+    /**
+     * @return whether the sprite at index i cannot collide with any bucket there is
+     */
+    public boolean isInert (int i) {
+        return myInert[mySpriteBucket[i]];
+    }
+
+    private int getBucket (int categoryMask, int collisionMask) {
+        long key = ((long) categoryMask << 32) | (collisionMask & 0xFFFFFFFFL);
+        Integer bucket = myBucketOfMasks.get(key);
+        if (bucket == null) {
+            bucket = addBucket(categoryMask, collisionMask);
+            myBucketOfMasks.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    private int addBucket (int categoryMask, int collisionMask) {
+        if (myBucketCount == myCategoryMask.length) {
+            grow();
+        }
+        int bucket = myBucketCount++;
+        myCategoryMask[bucket] = categoryMask;
+        myCollisionMask[bucket] = collisionMask;
+        myMembers[bucket] = new int[INITIAL_CAPACITY];
+        mySizes[bucket] = 0;
+        myInert[bucket] = true;
+        for (int other = 0; other < myBucketCount; other++) {
+            boolean interacts = (collisionMask & myCategoryMask[other]) != 0 &&
+                                (myCollisionMask[other] & categoryMask) != 0;
+            myInteracts[bucket][other] = interacts;
+            myInteracts[other][bucket] = interacts;
+            if (interacts) {
+                myInert[bucket] = false;
+                myInert[other] = false;
+            }
+        }
+        return bucket;
+    }
+
+    private void grow () {
+        int capacity = 2 * myCategoryMask.length;
+        myCategoryMask = Arrays.copyOf(myCategoryMask, capacity);
+        myCollisionMask = Arrays.copyOf(myCollisionMask, capacity);
+        myInert = Arrays.copyOf(myInert, capacity);
+        myMembers = Arrays.copyOf(myMembers, capacity);
+        mySizes = Arrays.copyOf(mySizes, capacity);
+        boolean[][] interacts = new boolean[capacity][capacity];
+        for (int b = 0; b < myBucketCount; b++) {
+            System.arraycopy(myInteracts[b], 0, interacts[b], 0, myBucketCount);
+        }
+        myInteracts = interacts;
+    }
+
+}
@@ -0,0 +1,41 @@
+package game_engine.collision;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Creates the collision engine selected for a game. Games saved before the
+ * selection existed have no type and keep the brute force engine.
+ *
+ * The brute force engine always runs serially. With a parallel narrowphase it is
+ * replaced by BitMaskCollisionEngine, which tests the same pairs in the same order.
+ */
+public class CollisionEngineFactory implements ICollisionEngineFactory {
+
+	@Override
+	public ICollisionEngine createCollisionEngine(CollisionEngineType type) {
+		if (type == CollisionEngineType.UNIFORM_GRID)
+			return new GridCollisionEngine();
+		else if (type == CollisionEngineType.SWEEP_AND_PRUNE)
+			return new SweepAndPruneCollisionEngine();
+		else if (type == CollisionEngineType.STATIC_BLOCK_TREE)
+			return new StaticBlockCollisionEngine();
+		else if (type == CollisionEngineType.BIT_MASK_BUCKETS)
+			return new BitMaskCollisionEngine();
+		else
+			return new CollisionEngine();
+	}
+
+	@Override
+	public ICollisionEngine createCollisionEngine(CollisionEngineType type, boolean parallelNarrowphase) {
+		if (!parallelNarrowphase)
+			return createCollisionEngine(type);
+		AbstractBroadphaseCollisionEngine engine;
+		if (type == null || type == CollisionEngineType.BRUTE_FORCE)
+			engine = new BitMaskCollisionEngine();
+		else
+			engine = (AbstractBroadphaseCollisionEngine) createCollisionEngine(type);
+		engine.setNarrowphasePool(ForkJoinPool.commonPool());
+		return engine;
+	}
+
+}
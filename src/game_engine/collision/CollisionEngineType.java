@@ -0,0 +1,12 @@
+package game_engine.collision;
+
+/**
+ * All the collision engines a game can run with
+ */
+public enum CollisionEngineType {
+	BRUTE_FORCE,
+	UNIFORM_GRID,
+	SWEEP_AND_PRUNE,
+	STATIC_BLOCK_TREE,
+	BIT_MASK_BUCKETS;
+}
@@ -0,0 +1,222 @@
+package game_engine.collision;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_object.core.ISprite;
+
+
+/**
+ * Keeps the pairs of sprites that touch from one collision pass to the next, e.g. a hero
+ * standing on a block, and turns them into enter, stay and exit events.
+ *
+ * A contact also remembers the direction it was given and the positions and sizes it was
+ * computed from. If neither sprite has moved or changed size since, the direction still
+ * holds and does not need to be computed again.
+ *
+ * Exit events are sent at the end of a pass, in the order the contacts were entered, so the
+ * events of a pass are always in the same order.
+ */
+public class ContactManager {
+
+    private final Map<ISprite, Map<ISprite, Contact>> myContacts;
+    private final List<Contact> myActive;
+    private final List<IContactListener> myListeners;
+    private long myPass;
+
+    public ContactManager () {
+        myContacts = new IdentityHashMap<>();
+        myActive = new ArrayList<>();
+        myListeners = new ArrayList<>();
+    }
+
+    public void addContactListener (IContactListener listener) {
+        myListeners.add(listener);
+    }
+
+    public void removeContactListener (IContactListener listener) {
+        myListeners.remove(listener);
+    }
+
+    /**
+     * Starts a collision pass. Contacts not touched until endPass are exited.
+     */
+    public void beginPass () {
+        myPass++;
+    }
+
+    /**
+     * Sends the exit events of every contact that was not touched since beginPass.
+     */
+    public void endPass () {
+        int kept = 0;
+        for (int k = 0; k < myActive.size(); k++) {
+            Contact contact = myActive.get(k);
+            if (contact.myLastPass == myPass) {
+                myActive.set(kept++, contact);
+                continue;
+            }
+            remove(contact);
+            contact.mySpriteA.onContactExit(contact.mySpriteB);
+            contact.mySpriteB.onContactExit(contact.mySpriteA);
+            for (IContactListener listener : myListeners) {
+                listener.onContactExit(contact.mySpriteA, contact.mySpriteB);
+            }
+        }
+        myActive.subList(kept, myActive.size()).clear();
+    }
+
+    /**
+     * Forgets every contact without sending exit events, e.g. when the level changes.
+     */
+    public void clear () {
+        myContacts.clear();
+        myActive.clear();
+    }
+
+    /**
+     * @return the direction of the contact between the two sprites if neither of them moved
+     *         or changed size since it was computed, otherwise null
+     */
+    public CollisionDirection getCachedDirection (ISprite spriteA, ISprite spriteB) {
+        Contact contact = getContact(spriteA, spriteB);
+        return contact != null && contact.isUnchanged() ? contact.myDirection : null;
+    }
+
+    /**
+     * Records that the two sprites touch in this pass and sends the enter or stay event.
+     *
+     * @param collisionDirection the side of spriteA that was hit
+     */
+    public void touch (ISprite spriteA, ISprite spriteB, CollisionDirection collisionDirection) {
+        Contact contact = getContact(spriteA, spriteB);
+        if (contact == null) {
+            // the sprite list may have been reordered since the contact was entered
+            contact = getContact(spriteB, spriteA);
+            if (contact != null) {
+                remove(contact);
+                contact.swap();
+                put(contact);
+            }
+        }
+        boolean entered = contact == null;
+        if (entered) {
+            contact = new Contact(spriteA, spriteB);
+            put(contact);
+            myActive.add(contact);
+        }
+        else if (contact.myLastPass == myPass) {
+            // a pair is only tested once per pass, unless a callback touched it again
+            contact.record(collisionDirection);
+            return;
+        }
+        contact.myLastPass = myPass;
+        contact.record(collisionDirection);
+        if (entered) {
+            spriteA.onContactEnter(spriteB, collisionDirection);
+            spriteB.onContactEnter(spriteA, collisionDirection.opposite());
+        }
+        for (IContactListener listener : myListeners) {
+            if (entered) {
+                listener.onContactEnter(spriteA, spriteB, collisionDirection);
+            }
+            else {
+                listener.onContactStay(spriteA, spriteB, collisionDirection);
+            }
+        }
+    }
+
+    /**
+     * @return whether the two sprites are in contact, as of the last pass that tested them
+     */
+    public boolean isTouching (ISprite spriteA, ISprite spriteB) {
+        return getContact(spriteA, spriteB) != null || getContact(spriteB, spriteA) != null;
+    }
+
+    public int getContactCount () {
+        return myActive.size();
+    }
+
+    private Contact getContact (ISprite spriteA, ISprite spriteB) {
+        Map<ISprite, Contact> contacts = myContacts.get(spriteA);
+        return contacts == null ? null : contacts.get(spriteB);
+    }
+
+    private void put (Contact contact) {
+        Map<ISprite, Contact> contacts = myContacts.get(contact.mySpriteA);
+        if (contacts == null) {
+            contacts = new IdentityHashMap<>();
+            myContacts.put(contact.mySpriteA, contacts);
+        }
+        contacts.put(contact.mySpriteB, contact);
+    }
+
+    private void remove (Contact contact) {
+        Map<ISprite, Contact> contacts = myContacts.get(contact.mySpriteA);
+        contacts.remove(contact.mySpriteB);
+        if (contacts.isEmpty()) {
+            myContacts.remove(contact.mySpriteA);
+        }
+    }
+
+    /**
+     * A pair of touching sprites, with what their direction was computed from.
+     */
+    private static class Contact {
+
+        private ISprite mySpriteA;
+        private ISprite mySpriteB;
+        private CollisionDirection myDirection;
+        private long myLastPass;
+        private double myPreviousX, myPreviousY, myX, myY, myWidth, myHeight;
+        private double myOtherX, myOtherY, myOtherWidth, myOtherHeight;
+
+        private Contact (ISprite spriteA, ISprite spriteB) {
+            mySpriteA = spriteA;
+            mySpriteB = spriteB;
+        }
+
+        /**
+         * Turns the contact around. The recorded state is of the old first sprite, so the
+         * direction has to be computed again before it can be cached.
+         */
+        private void swap () {
+            ISprite spriteA = mySpriteA;
+            mySpriteA = mySpriteB;
+            mySpriteB = spriteA;
+            myDirection = null;
+        }
+
+        private void record (CollisionDirection direction) {
+            myDirection = direction;
+            myPreviousX = mySpriteA.getPreviousPosition().getX();
+            myPreviousY = mySpriteA.getPreviousPosition().getY();
+            myX = mySpriteA.getPosition().getX();
+            myY = mySpriteA.getPosition().getY();
+            myWidth = mySpriteA.getDimension().getWidth();
+            myHeight = mySpriteA.getDimension().getHeight();
+            myOtherX = mySpriteB.getPosition().getX();
+            myOtherY = mySpriteB.getPosition().getY();
+            myOtherWidth = mySpriteB.getDimension().getWidth();
+            myOtherHeight = mySpriteB.getDimension().getHeight();
+        }
+
+        private boolean isUnchanged () {
+            return myDirection != null &&
+                   mySpriteA.getPreviousPosition().getX() == myPreviousX &&
+                   mySpriteA.getPreviousPosition().getY() == myPreviousY &&
+                   mySpriteA.getPosition().getX() == myX &&
+                   mySpriteA.getPosition().getY() == myY &&
+                   mySpriteA.getDimension().getWidth() == myWidth &&
+                   mySpriteA.getDimension().getHeight() == myHeight &&
+                   mySpriteB.getPosition().getX() == myOtherX &&
+                   mySpriteB.getPosition().getY() == myOtherY &&
+                   mySpriteB.getDimension().getWidth() == myOtherWidth &&
+                   mySpriteB.getDimension().getHeight() == myOtherHeight;
+        }
+
+    }
+
+}
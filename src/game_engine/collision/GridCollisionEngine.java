@@ -0,0 +1,145 @@
+package game_engine.collision;
+
+import java.util.List;
+import game_object.core.ISprite;
+
+
+/**
+ * Collision engine with a uniform-grid broadphase. Every sprite is bucketed into the grid
+ * cells its boundary covers, and only sprites sharing a cell are tested against each other.
+ * The cells are kept in a CellTable, which is filled anew every pass.
+ */
+public class GridCollisionEngine extends AbstractBroadphaseCollisionEngine {
+
+    public static final double DEFAULT_CELL_SIZE = 128;
+    private static final int MAX_CELLS_PER_SPRITE = 1024;
+
+    private final double myCellSize;
+    private final CellTable myCells;
+    private int[] myOversized;
+    private int myOversizedCount;
+    private int[] myMinCellX, myMinCellY, myMaxCellX, myMaxCellY;
+    private boolean[] myIsOversized;
+
+    public GridCollisionEngine () {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public GridCollisionEngine (double cellSize) {
+        myCellSize = cellSize;
+        myCells = new CellTable();
+    }
+
+    public double getCellSize () {
+        return myCellSize;
+    }
+
+    @Override
+    protected void findCandidatePairs (List<ISprite> sprites) {
+        buildGrid(sprites.size());
+        for (int n = 0; n < myCells.getUsedCount(); n++) {
+            int cell = myCells.getUsedCell(n);
+            long key = myCells.getKey(cell);
+            int cx = first(key);
+            int cy = second(key);
+            for (int a = myCells.getFirstEntry(cell); a >= 0; a = myCells.getNextEntry(a)) {
+                int i = myCells.getSprite(a);
+                for (int b = myCells.getNextEntry(a); b >= 0; b = myCells.getNextEntry(b)) {
+                    int j = myCells.getSprite(b);
+                    if (isFirstSharedCell(i, j, cx, cy)) {
+                        addPair(i, j);
+                    }
+                }
+            }
+        }
+        // sprites too large for the grid are tested against everything
+        for (int n = 0; n < myOversizedCount; n++) {
+            int i = myOversized[n];
+            for (int j = 0; j < sprites.size(); j++) {
+                if (!myIsOversized[j] || i < j) {
+                    addPair(i, j);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void onSpriteMoved (List<ISprite> sprites, int k, long current) {
+        if (myIsOversized[k] || myBuckets.isInert(k)) {
+            // already paired with everything, or never paired at all
+            return;
+        }
+        recordCells(k);
+        if (myIsOversized[k]) {
+            for (int m = 0; m < sprites.size(); m++) {
+                queueLatePair(k, m, current);
+            }
+            return;
+        }
+        for (int cx = myMinCellX[k]; cx <= myMaxCellX[k]; cx++) {
+            for (int cy = myMinCellY[k]; cy <= myMaxCellY[k]; cy++) {
+                int cell = myCells.getCell(pair(cx, cy));
+                for (int e = myCells.getFirstEntry(cell); e >= 0; e = myCells.getNextEntry(e)) {
+                    queueLatePair(k, myCells.getSprite(e), current);
+                }
+                if (!myCells.contains(cell, k)) {
+                    myCells.add(cell, k);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void resize (int size) {
+        myMinCellX = new int[size];
+        myMinCellY = new int[size];
+        myMaxCellX = new int[size];
+        myMaxCellY = new int[size];
+        myIsOversized = new boolean[size];
+        myOversized = new int[size];
+    }
+
+    private void buildGrid (int spriteCount) {
+        myCells.clear();
+        myOversizedCount = 0;
+        for (int i = 0; i < spriteCount; i++) {
+            recordCells(i);
+            if (myBuckets.isInert(i)) {
+                continue;
+            }
+            if (myIsOversized[i]) {
+                myOversized[myOversizedCount++] = i;
+                continue;
+            }
+            for (int cx = myMinCellX[i]; cx <= myMaxCellX[i]; cx++) {
+                for (int cy = myMinCellY[i]; cy <= myMaxCellY[i]; cy++) {
+                    myCells.add(myCells.getCell(pair(cx, cy)), i);
+                }
+            }
+        }
+    }
+
+    /**
+     * A pair sharing several cells would be found once per shared cell, so it is only kept
+     * in the top-left cell of the overlap of the two cell ranges.
+     */
+    private boolean isFirstSharedCell (int i, int j, int cx, int cy) {
+        return cx == Math.max(myMinCellX[i], myMinCellX[j]) &&
+               cy == Math.max(myMinCellY[i], myMinCellY[j]);
+    }
+
+    private void recordCells (int k) {
+        myMinCellX[k] = toCell(myLeft[k]);
+        myMinCellY[k] = toCell(myTop[k]);
+        myMaxCellX[k] = toCell(myRight[k]);
+        myMaxCellY[k] = toCell(myBottom[k]);
+        long cellCount = ((long) myMaxCellX[k] - myMinCellX[k] + 1) *
+                         ((long) myMaxCellY[k] - myMinCellY[k] + 1);
+        myIsOversized[k] = cellCount <= 0 || cellCount > MAX_CELLS_PER_SPRITE;
+    }
+
+    private int toCell (double coordinate) {
+        return (int) Math.floor(coordinate / myCellSize);
+    }
+
+}
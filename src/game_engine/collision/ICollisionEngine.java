@@ -5,6 +5,7 @@ import game_object.block.Block;
 import game_object.character.Enemy;
 import game_object.character.Hero;
 import game_object.core.ISprite;
+import game_object.level.Level;
 
 public interface ICollisionEngine {
     
@@ -22,4 +23,15 @@ public interface ICollisionEngine {
      */
     void suppressLogDebug();
     
+    /**
+     * Changes the level the collision engine is interacting with
+     * @param level
+     */
+    void setLevel(Level level);
+    
+    /**
+     * @return the contacts kept between passes, to listen to their enter, stay and exit events
+     */
+    ContactManager getContactManager();
+    
 }
@@ -0,0 +1,27 @@
+package game_engine.collision;
+
+/**
+ * Interface used by the game engine to create a Collision Engine
+ */
+public interface ICollisionEngineFactory {
+
+	/**
+	 * @param type
+	 *            which broadphase to use; null falls back to the brute force engine
+	 * @return a collision engine according to the type given by the factory
+	 *         caller (engine)
+	 */
+	public ICollisionEngine createCollisionEngine(CollisionEngineType type);
+
+	/**
+	 * @param type
+	 *            which broadphase to use; null falls back to the brute force engine
+	 * @param parallelNarrowphase
+	 *            whether collision directions are computed on the common
+	 *            ForkJoinPool before the callbacks are made in order
+	 * @return a collision engine according to the type given by the factory
+	 *         caller (engine)
+	 */
+	public ICollisionEngine createCollisionEngine(CollisionEngineType type, boolean parallelNarrowphase);
+
+}
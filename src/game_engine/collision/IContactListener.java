@@ -0,0 +1,28 @@
+package game_engine.collision;
+
+import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_object.core.ISprite;
+
+
+/**
+ * Listens to the contacts tracked by a ContactManager. Sprites are passed in the order of the
+ * level's sprite list, and the direction is the side of spriteA that was hit.
+ */
+public interface IContactListener {
+
+    /**
+     * Called the first pass two sprites touch.
+     */
+    void onContactEnter (ISprite spriteA, ISprite spriteB, CollisionDirection collisionDirection);
+
+    /**
+     * Called every later pass the two sprites still touch.
+     */
+    void onContactStay (ISprite spriteA, ISprite spriteB, CollisionDirection collisionDirection);
+
+    /**
+     * Called at the end of the first pass in which the two sprites no longer touch.
+     */
+    void onContactExit (ISprite spriteA, ISprite spriteB);
+
+}
@@ -0,0 +1,75 @@
+package game_engine.collision;
+
+import java.util.Arrays;
+
+
+/**
+ * A binary min-heap of longs kept in one array, so that queueing a value neither boxes it nor
+ * allocates once the array is large enough. Equal values are all kept.
+ */
+class LongHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] myValues;
+    private int mySize;
+
+    LongHeap () {
+        myValues = new long[INITIAL_CAPACITY];
+    }
+
+    void add (long value) {
+        if (mySize == myValues.length) {
+            myValues = Arrays.copyOf(myValues, 2 * mySize);
+        }
+        int child = mySize++;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (myValues[parent] <= value) {
+                break;
+            }
+            myValues[child] = myValues[parent];
+            child = parent;
+        }
+        myValues[child] = value;
+    }
+
+    /**
+     * @return the smallest value; only called when the heap is not empty
+     */
+    long peek () {
+        return myValues[0];
+    }
+
+    /**
+     * Removes the smallest value; only called when the heap is not empty.
+     */
+    long poll () {
+        long smallest = myValues[0];
+        long last = myValues[--mySize];
+        int parent = 0;
+        int half = mySize >>> 1;
+        while (parent < half) {
+            int child = 2 * parent + 1;
+            if (child + 1 < mySize && myValues[child + 1] < myValues[child]) {
+                child++;
+            }
+            if (last <= myValues[child]) {
+                break;
+            }
+            myValues[parent] = myValues[child];
+            parent = child;
+        }
+        myValues[parent] = last;
+        return smallest;
+    }
+
+    boolean isEmpty () {
+        return mySize == 0;
+    }
+
+    void clear () {
+        mySize = 0;
+    }
+
+}
@@ -0,0 +1,98 @@
+package game_engine.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import game_object.block.Block;
+import game_object.core.ISprite;
+
+
+/**
+ * Collision engine that leaves a level's blocks out of the sweep. Blocks are terrain that
+ * never moves, so they are looked up in the level's static block tree instead, and
+ * block-vs-block pairs are never visited. Heroes, enemies, projectiles and every other sprite
+ * are swept as in SweepAndPruneCollisionEngine.
+ *
+ * If the blocks' bit masks let blocks collide with each other, or no level is set, this
+ * engine sweeps everything. A block that moved since the tree was built is swept too.
+ */
+public class StaticBlockCollisionEngine extends SweepAndPruneCollisionEngine {
+
+    private final List<Block> myHits;
+    private BoundingVolumeHierarchy<Block> myBlockTree;
+    private boolean[] myInTree;
+
+    public StaticBlockCollisionEngine () {
+        myHits = new ArrayList<>();
+    }
+
+    @Override
+    protected void chooseSweptSprites (List<ISprite> sprites) {
+        myBlockTree = myLevel == null ? null : myLevel.getStaticBlockTree();
+        for (int i = 0; i < sprites.size(); i++) {
+            myInTree[i] = false;
+        }
+        if (myBlockTree == null || myBlockTree.canCollideWithEachOther()) {
+            myBlockTree = null;
+            return;
+        }
+        List<Block> blocks = myBlockTree.getItems();
+        for (int t = 0; t < blocks.size(); t++) {
+            Integer index = indexOf(blocks.get(t));
+            if (index != null && !myBlockTree.hasMoved(t)) {
+                myInTree[index] = true;
+                mySwept[index] = false;
+            }
+        }
+    }
+
+    @Override
+    protected void findCandidatePairs (List<ISprite> sprites) {
+        super.findCandidatePairs(sprites);
+        if (myBlockTree == null) {
+            return;
+        }
+        for (int i = 0; i < sprites.size(); i++) {
+            if (myInTree[i] || myBuckets.isInert(i)) {
+                continue;
+            }
+            pairWithBlocks(i, -1);
+        }
+    }
+
+    @Override
+    protected void onSpriteMoved (List<ISprite> sprites, int k, long current) {
+        super.onSpriteMoved(sprites, k, current);
+        if (myBlockTree == null || myInTree[k] || myBuckets.isInert(k)) {
+            return;
+        }
+        pairWithBlocks(k, current);
+    }
+
+    @Override
+    protected void resize (int size) {
+        super.resize(size);
+        myInTree = new boolean[size];
+    }
+
+    /**
+     * Pairs sprite k with every tree block it overlaps, as a regular candidate pair before
+     * the pass starts (current is -1) or as a late pair after k moved.
+     */
+    private void pairWithBlocks (int k, long current) {
+        myHits.clear();
+        myBlockTree.query(myLeft[k], myTop[k], myRight[k], myBottom[k], myHits);
+        for (Block block : myHits) {
+            Integer index = indexOf(block);
+            if (index == null || !myInTree[index]) {
+                continue;
+            }
+            if (current < 0) {
+                addPair(k, index);
+            }
+            else {
+                queueLatePair(k, index, current);
+            }
+        }
+    }
+
+}
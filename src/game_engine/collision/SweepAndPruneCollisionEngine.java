@@ -0,0 +1,183 @@
+package game_engine.collision;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import game_object.core.ISprite;
+
+
+/**
+ * Collision engine with a single-axis sweep-and-prune broadphase. Sprites are kept sorted
+ * by their left edge between frames, and the order is repaired with an insertion sort, which
+ * is close to linear because most sprites barely move per tick. Only sprites whose x ranges
+ * overlap are tested against each other, which suits long and thin side-scrolling levels.
+ */
+public class SweepAndPruneCollisionEngine extends AbstractBroadphaseCollisionEngine {
+
+    private final Map<ISprite, Integer> myIndexOf;
+    private final List<Integer> myMoved;
+    private ISprite[] myOrder;
+    private int[] myOrderIndex;
+    private double[] mySortedLeft;
+    private int myOrderSize;
+    private boolean[] mySeen;
+    private boolean[] myHasMoved;
+    protected boolean[] mySwept;
+    private double myMaxWidth;
+
+    public SweepAndPruneCollisionEngine () {
+        myIndexOf = new IdentityHashMap<>();
+        myMoved = new ArrayList<>();
+        myOrder = new ISprite[0];
+        myOrderIndex = new int[0];
+        mySortedLeft = new double[0];
+    }
+
+    @Override
+    protected void findCandidatePairs (List<ISprite> sprites) {
+        myIndexOf.clear();
+        for (int i = 0; i < sprites.size(); i++) {
+            myIndexOf.put(sprites.get(i), i);
+            mySwept[i] = !myBuckets.isInert(i);
+            myHasMoved[i] = false;
+        }
+        myMoved.clear();
+        chooseSweptSprites(sprites);
+        updateOrder(sprites);
+        insertionSort();
+        myMaxWidth = 0;
+        for (int p = 0; p < myOrderSize; p++) {
+            int i = myOrderIndex[p];
+            mySortedLeft[p] = myLeft[i];
+            myMaxWidth = Math.max(myMaxWidth, myRight[i] - myLeft[i]);
+        }
+        for (int p = 0; p < myOrderSize; p++) {
+            int i = myOrderIndex[p];
+            for (int q = p + 1; q < myOrderSize && mySortedLeft[q] <= myRight[i]; q++) {
+                int j = myOrderIndex[q];
+                if (myBuckets.canCollide(i, j) &&
+                    myTop[i] <= myBottom[j] && myTop[j] <= myBottom[i]) {
+                    addPair(i, j);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void onSpriteMoved (List<ISprite> sprites, int k, long current) {
+        // the sorted order still holds for every sprite that has not moved this pass
+        int p = lowerBound(myLeft[k] - myMaxWidth);
+        for (; p < myOrderSize && mySortedLeft[p] <= myRight[k]; p++) {
+            int m = myOrderIndex[p];
+            if (!myHasMoved[m] && boundsOverlap(k, m)) {
+                queueLatePair(k, m, current);
+            }
+        }
+        for (int m : myMoved) {
+            if (boundsOverlap(k, m)) {
+                queueLatePair(k, m, current);
+            }
+        }
+        if (!myHasMoved[k]) {
+            myHasMoved[k] = true;
+            myMoved.add(k);
+        }
+    }
+
+    @Override
+    protected void resize (int size) {
+        mySeen = new boolean[size];
+        myHasMoved = new boolean[size];
+        mySwept = new boolean[size];
+    }
+
+    /**
+     * Lets a subclass take sprites out of the sweep by clearing their mySwept flag. Those
+     * sprites are then only paired with the sprites the subclass adds itself.
+     */
+    protected void chooseSweptSprites (List<ISprite> sprites) {
+    }
+
+    /**
+     * @return the index of the sprite in the list of the current pass, or null
+     */
+    protected Integer indexOf (ISprite sprite) {
+        return myIndexOf.get(sprite);
+    }
+
+    /**
+     * Keeps the previous frame's order for swept sprites that are still around, drops the
+     * others and appends the new ones.
+     */
+    private void updateOrder (List<ISprite> sprites) {
+        for (int i = 0; i < sprites.size(); i++) {
+            mySeen[i] = !mySwept[i];
+        }
+        ensureOrderCapacity(Math.max(sprites.size(), myOrderSize));
+        int kept = 0;
+        for (int p = 0; p < myOrderSize; p++) {
+            Integer index = myIndexOf.get(myOrder[p]);
+            if (index != null && !mySeen[index]) {
+                mySeen[index] = true;
+                myOrder[kept] = myOrder[p];
+                myOrderIndex[kept] = index;
+                kept++;
+            }
+        }
+        for (int i = 0; i < sprites.size(); i++) {
+            if (!mySeen[i]) {
+                myOrder[kept] = sprites.get(i);
+                myOrderIndex[kept] = i;
+                kept++;
+            }
+        }
+        for (int p = kept; p < myOrderSize; p++) {
+            myOrder[p] = null;
+        }
+        myOrderSize = kept;
+    }
+
+    private void insertionSort () {
+        for (int p = 1; p < myOrderSize; p++) {
+            ISprite sprite = myOrder[p];
+            int index = myOrderIndex[p];
+            double left = myLeft[index];
+            int q = p - 1;
+            while (q >= 0 && myLeft[myOrderIndex[q]] > left) {
+                myOrder[q + 1] = myOrder[q];
+                myOrderIndex[q + 1] = myOrderIndex[q];
+                q--;
+            }
+            myOrder[q + 1] = sprite;
+            myOrderIndex[q + 1] = index;
+        }
+    }
+
+    private int lowerBound (double left) {
+        int low = 0;
+        int high = myOrderSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (mySortedLeft[mid] < left) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureOrderCapacity (int size) {
+        if (myOrder.length < size) {
+            int capacity = Math.max(size, getCapacity());
+            ISprite[] order = new ISprite[capacity];
+            System.arraycopy(myOrder, 0, order, 0, myOrderSize);
+            myOrder = order;
+            myOrderIndex = new int[capacity];
+            mySortedLeft = new double[capacity];
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package game_engine.collision;
+
+import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_object.core.ISprite;
+import game_object.core.Position;
+
+
+/**
+ * Continuous collision test for sprites that move further than their own size in one step,
+ * e.g. projectiles. Such a sprite can jump over a thin block or enemy between two steps, so
+ * the test follows both sprites from their previous position to their current one and finds
+ * the moment their boundaries first touch.
+ *
+ * Both sprites are assumed to move in a straight line during the step. The test runs in the
+ * frame of the second sprite, so two fast sprites are handled as well.
+ */
+public class SweptCollision {
+
+    private final double myTimeOfImpact;
+    private final CollisionDirection myDirection;
+
+    private SweptCollision (double timeOfImpact, CollisionDirection direction) {
+        myTimeOfImpact = timeOfImpact;
+        myDirection = direction;
+    }
+
+    /**
+     * @return the fraction of the step, from 0 at the previous positions to 1 at the current
+     *         ones, at which the two sprites first touched
+     */
+    public double getTimeOfImpact () {
+        return myTimeOfImpact;
+    }
+
+    /**
+     * @return the side of the first sprite that ran into the second one, as
+     *         getCharacterCollision would report it
+     */
+    public CollisionDirection getDirection () {
+        return myDirection;
+    }
+
+    /**
+     * @return whether the sprite moved further than its own width or height since its
+     *         previous position
+     */
+    public static boolean isFast (ISprite sprite) {
+        Position previous = sprite.getPreviousPosition();
+        return Math.abs(sprite.getPosition().getX() - previous.getX()) > sprite.getDimension()
+                .getWidth() ||
+               Math.abs(sprite.getPosition().getY() - previous.getY()) > sprite.getDimension()
+                       .getHeight();
+    }
+
+    /**
+     * @return the first contact of the two sprites during this step, edges included, or null if
+     *         their paths never touch
+     */
+    public static SweptCollision sweep (ISprite sprite, ISprite other) {
+        Position start = sprite.getPreviousPosition();
+        Position otherStart = other.getPreviousPosition();
+        double dx = (sprite.getPosition().getX() - start.getX()) -
+                    (other.getPosition().getX() - otherStart.getX());
+        double dy = (sprite.getPosition().getY() - start.getY()) -
+                    (other.getPosition().getY() - otherStart.getY());
+        double width = sprite.getDimension().getWidth();
+        double height = sprite.getDimension().getHeight();
+        double otherWidth = other.getDimension().getWidth();
+        double otherHeight = other.getDimension().getHeight();
+
+        double entryX = entry(start.getX(), width, otherStart.getX(), otherWidth, dx);
+        double exitX = exit(start.getX(), width, otherStart.getX(), otherWidth, dx);
+        double entryY = entry(start.getY(), height, otherStart.getY(), otherHeight, dy);
+        double exitY = exit(start.getY(), height, otherStart.getY(), otherHeight, dy);
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        if (entry > exit || entry > 1 || exit < 0) {
+            return null;
+        }
+        CollisionDirection direction;
+        if (entryX > entryY) {
+            direction = dx > 0 ? CollisionDirection.RIGHT : CollisionDirection.LEFT;
+        }
+        else if (entryY > entryX) {
+            direction = dy > 0 ? CollisionDirection.BOTTOM : CollisionDirection.TOP;
+        }
+        else {
+            // hit exactly on a corner, or already touching on both axes
+            direction = CollisionDirection.CORNER;
+        }
+        return new SweptCollision(Math.max(entry, 0), direction);
+    }
+
+    /**
+     * @return when [start, start + size] moving by distance starts to touch
+     *         [otherStart, otherStart + otherSize] along one axis
+     */
+    private static double entry (double start, double size, double otherStart,
+                                 double otherSize, double distance) {
+        if (distance > 0) {
+            return (otherStart - (start + size)) / distance;
+        }
+        if (distance < 0) {
+            return (otherStart + otherSize - start) / distance;
+        }
+        return touches(start, size, otherStart, otherSize) ? Double.NEGATIVE_INFINITY
+                                                           : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return when [start, start + size] moving by distance stops touching
+     *         [otherStart, otherStart + otherSize] along one axis
+     */
+    private static double exit (double start, double size, double otherStart,
+                                double otherSize, double distance) {
+        if (distance > 0) {
+            return (otherStart + otherSize - start) / distance;
+        }
+        if (distance < 0) {
+            return (otherStart - (start + size)) / distance;
+        }
+        return touches(start, size, otherStart, otherSize) ? Double.POSITIVE_INFINITY
+                                                           : Double.NEGATIVE_INFINITY;
+    }
+
+    private static boolean touches (double start, double size, double otherStart,
+                                    double otherSize) {
+        return start <= otherStart + otherSize && otherStart <= start + size;
+    }
+
+}
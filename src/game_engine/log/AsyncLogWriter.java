@@ -0,0 +1,108 @@
+package game_engine.log;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands log lines from the game threads to a writer thread through a ring buffer of fixed size.
+ *
+ * Logging only formats the line and puts it in the buffer. When the buffer is full the line is
+ * dropped rather than holding up the game, and the number dropped is written once there is room
+ * again. The writer thread is a daemon that is started with the first line.
+ *
+ * Neither of the loggers already on the classpath writes off the calling thread: the
+ * slf4j-simple 1.6.1 binding in lib/ prints INFO and above straight to System.err and has no
+ * debug level, and the java.util.logging handlers used by network.* publish under a lock on
+ * the thread that logs. Hence this buffer of its own.
+ */
+class AsyncLogWriter {
+
+	private static final int CAPACITY = 8192;
+	private static final long FLUSH_WAIT_MILLIS = 1;
+	private static final AsyncLogWriter staticInstance = new AsyncLogWriter(System.out);
+
+	private final BlockingQueue<String> myLines;
+	private final PrintStream myOut;
+	private final AtomicLong myDropped;
+	private final AtomicLong myWritten;
+	private final AtomicLong myOffered;
+	private volatile Thread myThread;
+
+	AsyncLogWriter(PrintStream out) {
+		myLines = new ArrayBlockingQueue<>(CAPACITY);
+		myOut = out;
+		myDropped = new AtomicLong();
+		myWritten = new AtomicLong();
+		myOffered = new AtomicLong();
+	}
+
+	static AsyncLogWriter getInstance() {
+		return staticInstance;
+	}
+
+	void write(LogLevel level, String name, String message, Throwable cause) {
+		StringBuilder line = new StringBuilder();
+		line.append(level).append(" [").append(Thread.currentThread().getName()).append("] ")
+				.append(name).append(" - ").append(message);
+		if (cause != null) {
+			StringWriter trace = new StringWriter();
+			cause.printStackTrace(new PrintWriter(trace));
+			line.append(System.lineSeparator()).append(trace);
+		}
+		start();
+		if (myLines.offer(line.toString())) {
+			myOffered.incrementAndGet();
+		} else {
+			myDropped.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Waits until every line offered so far has been written.
+	 */
+	void flush() {
+		long offered = myOffered.get();
+		while (myWritten.get() < offered && myThread != null && myThread.isAlive()) {
+			try {
+				Thread.sleep(FLUSH_WAIT_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		myOut.flush();
+	}
+
+	private synchronized void start() {
+		if (myThread == null) {
+			myThread = new Thread(this::run, "log writer");
+			myThread.setDaemon(true);
+			myThread.start();
+		}
+	}
+
+	private void run() {
+		while (true) {
+			String line;
+			try {
+				line = myLines.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			long dropped = myDropped.getAndSet(0);
+			if (dropped > 0) {
+				myOut.println("WARN [log writer] AsyncLogWriter - " + dropped + " lines dropped, the buffer was full");
+			}
+			myOut.println(line);
+			myWritten.incrementAndGet();
+			if (myLines.isEmpty()) {
+				myOut.flush();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package game_engine.log;
+
+/**
+ * Where the game engine gets its Loggers, and the level they share.
+ *
+ * The level is INFO unless the system property game.log.level names another LogLevel, so the
+ * per-frame debug output of the engine is off unless asked for. Messages that are written go
+ * through an AsyncLogWriter, so the game loop never waits on the console.
+ */
+public class Log {
+
+	public static final String LEVEL_PROPERTY = "game.log.level";
+
+	private static volatile LogLevel staticLevel = readLevel();
+
+	public static Logger getLogger(Class<?> owner) {
+		return new Logger(owner.getSimpleName());
+	}
+
+	public static LogLevel getLevel() {
+		return staticLevel;
+	}
+
+	public static void setLevel(LogLevel level) {
+		staticLevel = level;
+	}
+
+	/**
+	 * Waits until the messages logged so far are written, e.g. before the program exits.
+	 */
+	public static void flush() {
+		AsyncLogWriter.getInstance().flush();
+	}
+
+	static boolean isEnabled(LogLevel level) {
+		return level.compareTo(staticLevel) >= 0 && level != LogLevel.OFF;
+	}
+
+	private static LogLevel readLevel() {
+		String level = System.getProperty(LEVEL_PROPERTY);
+		if (level == null) {
+			return LogLevel.INFO;
+		}
+		try {
+			return LogLevel.valueOf(level.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return LogLevel.INFO;
+		}
+	}
+
+}
@@ -0,0 +1,13 @@
+package game_engine.log;
+
+/**
+ * How important a log message is; a Logger writes the messages at or above Log.getLevel().
+ */
+public enum LogLevel {
+	TRACE,
+	DEBUG,
+	INFO,
+	WARN,
+	ERROR,
+	OFF;
+}
@@ -0,0 +1,60 @@
+package game_engine.log;
+
+import java.util.function.Supplier;
+
+/**
+ * Writes the messages of one class at the level set in Log.
+ *
+ * Messages are given as a Supplier, which is only called when the level is enabled, so a
+ * disabled message does no string building. In a hot path, where even creating the lambda is
+ * too much, check isDebugEnabled() (or isEnabled) first and build the message inside the check.
+ */
+public class Logger {
+
+	private final String myName;
+
+	Logger(String name) {
+		myName = name;
+	}
+
+	public boolean isEnabled(LogLevel level) {
+		return Log.isEnabled(level);
+	}
+
+	public boolean isTraceEnabled() {
+		return Log.isEnabled(LogLevel.TRACE);
+	}
+
+	public boolean isDebugEnabled() {
+		return Log.isEnabled(LogLevel.DEBUG);
+	}
+
+	public void log(LogLevel level, Supplier<String> message) {
+		if (Log.isEnabled(level)) {
+			AsyncLogWriter.getInstance().write(level, myName, message.get(), null);
+		}
+	}
+
+	public void trace(Supplier<String> message) {
+		log(LogLevel.TRACE, message);
+	}
+
+	public void debug(Supplier<String> message) {
+		log(LogLevel.DEBUG, message);
+	}
+
+	public void info(Supplier<String> message) {
+		log(LogLevel.INFO, message);
+	}
+
+	public void warn(Supplier<String> message) {
+		log(LogLevel.WARN, message);
+	}
+
+	public void error(Supplier<String> message, Throwable cause) {
+		if (Log.isEnabled(LogLevel.ERROR)) {
+			AsyncLogWriter.getInstance().write(LogLevel.ERROR, myName, message.get(), cause);
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+package game_engine.physics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import game_object.core.Position;
+import game_object.core.Velocity;
+import game_object.level.Level;
+import game_object.simulation.IPhysicsBody;
+
+/**
+ * Moves a whole list of bodies in one go, with the same results as PhysicsEngineWithFriction.
+ *
+ * The positions, velocities and physics strategies of the bodies are copied into primitive
+ * arrays, integrated in one loop without virtual calls or allocations, and copied back.
+ * The strategies that come with the game are turned into a gravity and a friction factor of
+ * 0 or 1; any other strategy is asked for its velocities while the arrays are filled.
+ *
+ * A body gets a new Position and Velocity the first time it is integrated, as it would from
+ * the other engines, so a velocity shared with e.g. a ProjectileModel is never changed.
+ * After that the same objects are updated in place. The engine knows those objects by their
+ * place in the list, so it should be given the same list every frame.
+ */
+public class BatchedPhysicsEngine extends PhysicsEngineWithFriction {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private IPhysicsBody[] myBodies;
+	private Position[] myPositions;
+	private Velocity[] myVelocities;
+	private double[] myX, myY, myVX, myVY;
+	private double[] myGravityFactor, myFrictionFactor;
+	private int myCount;
+
+	public BatchedPhysicsEngine(Level level) {
+		super(level);
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Calculates and updates the new position and velocity of every body in the list.
+	 * @param bodies to be moved, in any order
+	 * @param elapsedTime
+	 */
+	public void integrate(List<? extends IPhysicsBody> bodies, double elapsedTime) {
+		int n = bodies.size();
+		if (n > myBodies.length) {
+			allocate(Math.max(n, 2 * myBodies.length));
+		}
+		double gravity = myLevel.getPhysicsParameters().getGravity();
+		for (int i = 0; i < n; i++) {
+			load(i, bodies.get(i), gravity, elapsedTime);
+		}
+		step(n, gravity * elapsedTime, elapsedTime);
+		for (int i = 0; i < n; i++) {
+			store(i, bodies.get(i));
+		}
+		if (n < myCount) {
+			// let go of the bodies that are gone
+			Arrays.fill(myBodies, n, myCount, null);
+			Arrays.fill(myPositions, n, myCount, null);
+			Arrays.fill(myVelocities, n, myCount, null);
+		}
+		myCount = n;
+	}
+
+	private void load(int i, IPhysicsBody body, double gravity, double elapsedTime) {
+		double vx = body.getVelocity().getXVelocity();
+		double vy = body.getVelocity().getYVelocity();
+		myX[i] = body.getPosition().getX();
+		myY[i] = body.getPosition().getY();
+		IPhysicsStrategy strategy = body.getPhysics();
+		Class<?> kind = strategy.getClass();
+		if (kind == GravityFrictionStrategy.class) {
+			myGravityFactor[i] = 1;
+			myFrictionFactor[i] = 1;
+		} else if (kind == GravityStrategy.class) {
+			myGravityFactor[i] = 1;
+			myFrictionFactor[i] = 0;
+		} else if (kind == ConstantStrategy.class) {
+			myGravityFactor[i] = 0;
+			myFrictionFactor[i] = 0;
+		} else {
+			// unknown strategy: its velocities are worked out here, step() only clamps them
+			if (!existLeftRight) {
+				double friction = (vy == 0) ? myLevel.getPhysicsParameters().getGroundFriction()
+						: myLevel.getPhysicsParameters().getAirFriction();
+				vx = strategy.calculateNewXVelocity(friction, vx, elapsedTime);
+			}
+			vy = strategy.calculateNewYVelocity(gravity, vy, elapsedTime);
+			myGravityFactor[i] = 0;
+			myFrictionFactor[i] = 0;
+		}
+		myVX[i] = vx;
+		myVY[i] = vy;
+	}
+
+	private void step(int n, double gravityStep, double elapsedTime) {
+		double groundFriction = myLevel.getPhysicsParameters().getGroundFriction();
+		double airFriction = myLevel.getPhysicsParameters().getAirFriction();
+		double min = myLevel.getPhysicsParameters().getMinThreshold();
+		double max = myLevel.getPhysicsParameters().getMaxThreshold();
+		boolean frictionApplies = !existLeftRight;
+		for (int i = 0; i < n; i++) {
+			double vy = myVY[i];
+			double vx = myVX[i];
+			if (frictionApplies) {
+				double friction = (vy == 0) ? groundFriction : airFriction;
+				vx = vx * (1 - myFrictionFactor[i] * friction);
+			}
+			if (Math.abs(vx) < min) {
+				vx = 0;
+			}
+			vy = vy + myGravityFactor[i] * gravityStep;
+			if (Math.abs(vy) > max) {
+				vy = vy > 0 ? max : -max;
+			}
+			myVX[i] = vx;
+			myVY[i] = vy;
+			myX[i] = myX[i] + elapsedTime * vx;
+			myY[i] = myY[i] + elapsedTime * vy;
+		}
+	}
+
+	private void store(int i, IPhysicsBody body) {
+		boolean known = myBodies[i] == body;
+		myBodies[i] = body;
+		Position position = body.getPosition();
+		if (known && position == myPositions[i]) {
+			position.setX(myX[i]);
+			position.setY(myY[i]);
+		} else {
+			position = new Position(myX[i], myY[i]);
+			myPositions[i] = position;
+			updatePosition(position, body);
+		}
+		Velocity velocity = body.getVelocity();
+		if (known && velocity == myVelocities[i]) {
+			velocity.setXVelocity(myVX[i]);
+			velocity.setYVelocity(myVY[i]);
+		} else {
+			velocity = new Velocity(myVX[i], myVY[i]);
+			myVelocities[i] = velocity;
+			updateVelocity(velocity, body);
+		}
+	}
+
+	private void allocate(int capacity) {
+		IPhysicsBody[] bodies = new IPhysicsBody[capacity];
+		Position[] positions = new Position[capacity];
+		Velocity[] velocities = new Velocity[capacity];
+		if (myBodies != null) {
+			System.arraycopy(myBodies, 0, bodies, 0, myBodies.length);
+			System.arraycopy(myPositions, 0, positions, 0, myPositions.length);
+			System.arraycopy(myVelocities, 0, velocities, 0, myVelocities.length);
+		}
+		myBodies = bodies;
+		myPositions = positions;
+		myVelocities = velocities;
+		myX = new double[capacity];
+		myY = new double[capacity];
+		myVX = new double[capacity];
+		myVY = new double[capacity];
+		myGravityFactor = new double[capacity];
+		myFrictionFactor = new double[capacity];
+	}
+}
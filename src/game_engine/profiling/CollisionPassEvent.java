@@ -0,0 +1,46 @@
+package game_engine.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for every call of ICollisionEngine.checkCollisions.
+ */
+@Name("game.engine.CollisionPass")
+@Label("Collision Pass")
+@Category({ "Game", "Engine" })
+@Description("One pass of a collision engine over the sprites of a level")
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+	@Label("Engine")
+	String engine;
+
+	@Label("Sprites")
+	int sprites;
+
+	@Label("Candidate Pairs")
+	@Description("The pairs the broadphase passed on to be checked")
+	long candidatePairs;
+
+	@Label("Late Pairs")
+	@Description("The pairs checked again because a collision callback moved a sprite")
+	int latePairs;
+
+	@Label("Parallel")
+	boolean parallel;
+
+	public void set(Class<?> engineClass, int spriteCount, long candidatePairCount, int latePairCount,
+			boolean isParallel) {
+		engine = engineClass.getSimpleName();
+		sprites = spriteCount;
+		candidatePairs = candidatePairCount;
+		latePairs = latePairCount;
+		parallel = isParallel;
+	}
+
+}
@@ -0,0 +1,144 @@
+package game_engine.profiling;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Times every ProfilerPhase of the game loop with System.nanoTime, to tell which of them takes
+ * a frame over its budget.
+ *
+ * A phase is timed with begin() and end(phase, begin). A phase made of several pieces adds
+ * up their elapsed(begin) and passes the sum to record(). Each phase keeps its last SAMPLES durations in a
+ * RollingHistogram, from which getStatistics() gives the p50, p99 and maximum. The durations
+ * of the current tick are also kept on their own, for the TickEvent of Flight Recorder.
+ *
+ * A profiler is timed and read on one thread. To show the ticks of an engine on another
+ * thread, give the engine's profiler a TickLog, hand the log over, e.g. inside a
+ * RenderSnapshot, and record() it into a profiler of the other thread.
+ */
+public class FrameProfiler {
+
+	/**
+	 * About ten seconds of ticks at 60 per second.
+	 */
+	public static final int SAMPLES = 600;
+
+	private final Map<ProfilerPhase, RollingHistogram> myHistograms;
+	private final long[] myTickNanos;
+	private TickLog myTickLog;
+	private volatile boolean myEnabled;
+
+	public FrameProfiler() {
+		myHistograms = new EnumMap<>(ProfilerPhase.class);
+		for (ProfilerPhase phase : ProfilerPhase.values()) {
+			myHistograms.put(phase, new RollingHistogram(SAMPLES));
+		}
+		myTickNanos = new long[ProfilerPhase.values().length];
+		myEnabled = true;
+	}
+
+	public void setEnabled(boolean enabled) {
+		myEnabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return myEnabled;
+	}
+
+	/**
+	 * @return the time to pass to end(), or 0 when the profiler is disabled
+	 */
+	public long begin() {
+		return myEnabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * @return the nanoseconds since begin(), or 0 when the profiler is disabled
+	 */
+	public long elapsed(long begin) {
+		return myEnabled && begin != 0 ? System.nanoTime() - begin : 0;
+	}
+
+	/**
+	 * Records the time since begin() for the phase.
+	 */
+	public void end(ProfilerPhase phase, long begin) {
+		if (myEnabled && begin != 0) {
+			record(phase, System.nanoTime() - begin);
+		}
+	}
+
+	public void record(ProfilerPhase phase, long nanos) {
+		if (myEnabled) {
+			myHistograms.get(phase).record(nanos);
+			myTickNanos[phase.ordinal()] = nanos;
+		}
+	}
+
+	/**
+	 * Records the phases of every tick in the log, as if they had been timed here.
+	 */
+	public void record(TickLog ticks) {
+		for (int tick = 0; tick < ticks.size(); tick++) {
+			for (ProfilerPhase phase : ProfilerPhase.values()) {
+				long nanos = ticks.getNanos(tick, phase);
+				if (nanos > 0) {
+					record(phase, nanos);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param tickLog where endTick() adds the durations of every tick, or null for nowhere
+	 */
+	public void setTickLog(TickLog tickLog) {
+		myTickLog = tickLog;
+	}
+
+	/**
+	 * Forgets the durations of the last tick, so that a phase skipped in this one reads 0.
+	 */
+	public void beginTick() {
+		Arrays.fill(myTickNanos, 0);
+	}
+
+	/**
+	 * Adds the durations of the tick to the TickLog, if there is one.
+	 */
+	public void endTick() {
+		if (myEnabled && myTickLog != null) {
+			myTickLog.add(myTickNanos);
+		}
+	}
+
+	/**
+	 * @return the nanoseconds the phase took in the current tick, or 0 if it was not timed
+	 */
+	public long getTickNanos(ProfilerPhase phase) {
+		return myTickNanos[phase.ordinal()];
+	}
+
+	public PhaseStatistics getStatistics(ProfilerPhase phase) {
+		return myHistograms.get(phase).getStatistics();
+	}
+
+	/**
+	 * @return the statistics of every phase, in the order of ProfilerPhase
+	 */
+	public Map<ProfilerPhase, PhaseStatistics> getAllStatistics() {
+		Map<ProfilerPhase, PhaseStatistics> statistics = new EnumMap<>(ProfilerPhase.class);
+		for (ProfilerPhase phase : ProfilerPhase.values()) {
+			statistics.put(phase, getStatistics(phase));
+		}
+		return statistics;
+	}
+
+	public void reset() {
+		for (RollingHistogram histogram : myHistograms.values()) {
+			histogram.clear();
+		}
+	}
+
+}
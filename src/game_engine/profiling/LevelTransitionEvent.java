@@ -0,0 +1,35 @@
+package game_engine.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for every level a transition manager is asked to leave, lasting as
+ * long as the transition, e.g. a dialog shown to the player, takes.
+ */
+@Name("game.engine.LevelTransition")
+@Label("Level Transition")
+@Category({ "Game", "Engine" })
+@Description("A level won or lost, and the level played next")
+public class LevelTransitionEvent extends Event {
+
+	@Label("Status")
+	String status;
+
+	@Label("From Level")
+	String fromLevel;
+
+	@Label("To Level")
+	@Description("Empty when the game ended")
+	String toLevel;
+
+	public void set(String winStatus, String from, String to) {
+		status = winStatus;
+		fromLevel = from;
+		toLevel = to;
+	}
+
+}
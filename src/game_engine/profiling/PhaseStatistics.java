@@ -0,0 +1,36 @@
+package game_engine.profiling;
+
+/**
+ * How long a ProfilerPhase took over the samples a RollingHistogram keeps, in nanoseconds.
+ */
+public class PhaseStatistics {
+
+	private final long myMedian;
+	private final long myP99;
+	private final long myMax;
+	private final int mySamples;
+
+	public PhaseStatistics(long median, long p99, long max, int samples) {
+		myMedian = median;
+		myP99 = p99;
+		myMax = max;
+		mySamples = samples;
+	}
+
+	public long getMedian() {
+		return myMedian;
+	}
+
+	public long getP99() {
+		return myP99;
+	}
+
+	public long getMax() {
+		return myMax;
+	}
+
+	public int getSamples() {
+		return mySamples;
+	}
+
+}
@@ -0,0 +1,15 @@
+package game_engine.profiling;
+
+/**
+ * The parts of a tick, and of drawing it, that the FrameProfiler times.
+ */
+public enum ProfilerPhase {
+	INPUT,
+	RANDOM_GENERATION,
+	AI,
+	PHYSICS,
+	COLLISION,
+	LEVEL_UPDATE,
+	GOAL_CHECK,
+	RENDER_DIFF;
+}
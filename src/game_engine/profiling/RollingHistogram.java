@@ -0,0 +1,56 @@
+package game_engine.profiling;
+
+import java.util.Arrays;
+
+/**
+ * The last samples of a duration, in a ring that overwrites the oldest one.
+ *
+ * Recording is cheap and does not allocate; the percentiles are only worked out when asked
+ * for, by sorting a copy of the ring. Samples may be recorded and read on different threads.
+ */
+public class RollingHistogram {
+
+	private final long[] mySamples;
+	private final long[] mySorted;
+	private int myNext;
+	private int myCount;
+
+	/**
+	 * @param capacity how many of the latest samples are kept
+	 */
+	public RollingHistogram(int capacity) {
+		mySamples = new long[capacity];
+		mySorted = new long[capacity];
+	}
+
+	public synchronized void record(long nanos) {
+		mySamples[myNext] = nanos;
+		myNext = (myNext + 1) % mySamples.length;
+		if (myCount < mySamples.length) {
+			myCount++;
+		}
+	}
+
+	public synchronized void clear() {
+		myNext = 0;
+		myCount = 0;
+	}
+
+	/**
+	 * @return the p50, p99 and maximum of the samples kept
+	 */
+	public synchronized PhaseStatistics getStatistics() {
+		if (myCount == 0) {
+			return new PhaseStatistics(0, 0, 0, 0);
+		}
+		System.arraycopy(mySamples, 0, mySorted, 0, myCount);
+		Arrays.sort(mySorted, 0, myCount);
+		return new PhaseStatistics(percentile(0.5), percentile(0.99), mySorted[myCount - 1], myCount);
+	}
+
+	private long percentile(double fraction) {
+		int index = (int) Math.ceil(fraction * myCount) - 1;
+		return mySorted[Math.max(0, index)];
+	}
+
+}
@@ -0,0 +1,82 @@
+package game_engine.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for every tick of GameEngine_Game, with the time of each of its
+ * phases as the FrameProfiler measured them.
+ *
+ * Record a session with e.g. java -XX:StartFlightRecording=filename=game.jfr and open it in
+ * JDK Mission Control, where the ticks line up with the GC, I/O and thread events of the JVM.
+ * When no recording is running the event is disabled and costs a check per tick.
+ */
+@Name("game.engine.Tick")
+@Label("Engine Tick")
+@Category({ "Game", "Engine" })
+@Description("One update of the game engine")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Sprites")
+	int sprites;
+
+	@Label("Physics Bodies")
+	int physicsBodies;
+
+	@Label("Input")
+	@Timespan(Timespan.NANOSECONDS)
+	long input;
+
+	@Label("Random Generation")
+	@Timespan(Timespan.NANOSECONDS)
+	long randomGeneration;
+
+	@Label("AI")
+	@Timespan(Timespan.NANOSECONDS)
+	long ai;
+
+	@Label("Physics")
+	@Timespan(Timespan.NANOSECONDS)
+	long physics;
+
+	@Label("Collision")
+	@Timespan(Timespan.NANOSECONDS)
+	long collision;
+
+	@Label("Level Update")
+	@Timespan(Timespan.NANOSECONDS)
+	long levelUpdate;
+
+	@Label("Goal Check")
+	@Timespan(Timespan.NANOSECONDS)
+	long goalCheck;
+
+	public void setLevel(String levelId, int spriteCount, int physicsBodyCount) {
+		level = levelId;
+		sprites = spriteCount;
+		physicsBodies = physicsBodyCount;
+	}
+
+	/**
+	 * Copies the phase times of the current tick from the profiler.
+	 */
+	public void setPhases(FrameProfiler profiler) {
+		input = profiler.getTickNanos(ProfilerPhase.INPUT);
+		randomGeneration = profiler.getTickNanos(ProfilerPhase.RANDOM_GENERATION);
+		ai = profiler.getTickNanos(ProfilerPhase.AI);
+		physics = profiler.getTickNanos(ProfilerPhase.PHYSICS);
+		collision = profiler.getTickNanos(ProfilerPhase.COLLISION);
+		levelUpdate = profiler.getTickNanos(ProfilerPhase.LEVEL_UPDATE);
+		goalCheck = profiler.getTickNanos(ProfilerPhase.GOAL_CHECK);
+	}
+
+}
@@ -0,0 +1,68 @@
+package game_engine.profiling;
+
+import java.util.Arrays;
+
+/**
+ * The phase durations of a run of ticks, one row of ProfilerPhase values per tick, kept so
+ * that they can be handed from the thread that runs the ticks to the one that shows them.
+ *
+ * A FrameProfiler given a TickLog adds a row at the end of every tick. The rows are stored in
+ * one array that grows as needed and is reused after clear(), so logging does not allocate
+ * once the log is large enough. A TickLog is not thread-safe; it is handed over by copying it
+ * into another one, e.g. inside a RenderSnapshot.
+ */
+public class TickLog {
+
+	private static final int PHASES = ProfilerPhase.values().length;
+	private static final int INITIAL_TICKS = 8;
+
+	private long[] myNanos;
+	private int mySize;
+
+	public TickLog() {
+		myNanos = new long[INITIAL_TICKS * PHASES];
+	}
+
+	/**
+	 * @param tickNanos the duration of every phase in the tick, 0 for a phase not timed
+	 */
+	public void add(long[] tickNanos) {
+		ensureCapacity(mySize + 1);
+		System.arraycopy(tickNanos, 0, myNanos, mySize * PHASES, PHASES);
+		mySize++;
+	}
+
+	/**
+	 * Replaces the ticks of this log with those of the other one.
+	 */
+	public void copyFrom(TickLog other) {
+		ensureCapacity(other.mySize);
+		System.arraycopy(other.myNanos, 0, myNanos, 0, other.mySize * PHASES);
+		mySize = other.mySize;
+	}
+
+	public void clear() {
+		mySize = 0;
+	}
+
+	/**
+	 * @return the number of ticks logged
+	 */
+	public int size() {
+		return mySize;
+	}
+
+	/**
+	 * @return the nanoseconds the phase took in the tick, or 0 if it was not timed
+	 */
+	public long getNanos(int tick, ProfilerPhase phase) {
+		return myNanos[tick * PHASES + phase.ordinal()];
+	}
+
+	private void ensureCapacity(int ticks) {
+		if (ticks * PHASES > myNanos.length) {
+			myNanos = Arrays.copyOf(myNanos, Math.max(ticks, 2 * myNanos.length / PHASES) * PHASES);
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package game_engine.random;
 
+import java.util.Collections;
 import java.util.List;
 import game_engine.physics.ConstantStrategy;
 import game_object.core.ISprite;
@@ -46,6 +47,13 @@ public class RandomGenerationController {
         }
     }
     
+    /**
+     * @return the clusters this controller generates, read-only
+     */
+    public List<RandomSpriteCluster> getClusters () {
+        return Collections.unmodifiableList(myRepeated);
+    }
+
     public void setSidewaysScrolling(boolean sideways){
         scrollSideways = sideways;
     }
@@ -3,6 +3,7 @@ package game_engine.random;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import game_object.core.Dimension;
@@ -17,6 +18,8 @@ public class RandomSpriteCluster {
 
     private double myXRange, myYRange;
     private double myRepeatDistance, myCurrentDistance, myPreviousDistance;
+    private Long mySeed;
+    private transient Random myRandom;
 
     public RandomSpriteCluster (double xRange, double yRange, double distance) {
         myXRange = xRange;
@@ -27,10 +30,26 @@ public class RandomSpriteCluster {
         mySprites = new ArrayList<SpriteInfo>();
     }
 
+    /**
+     * Makes the cluster come out at the same offsets every time the game is played, e.g. for
+     * generated stress levels. Without a seed every run is different.
+     */
+    public void setSeed (long seed) {
+        mySeed = seed;
+        myRandom = null;
+    }
+
     public void addSprite (SpriteInfo spriteInfo) {
         mySprites.add(spriteInfo);
     }
 
+    /**
+     * @return what every sprite of the cluster is made from, read-only
+     */
+    public List<SpriteInfo> getSpriteInfos () {
+        return Collections.unmodifiableList(mySprites);
+    }
+
     public boolean shouldRender (double position) {
         //System.out.println(myCurrentDistance);
         myCurrentDistance = Math.max(myCurrentDistance, position);
@@ -45,8 +64,8 @@ public class RandomSpriteCluster {
     
     public List<ISprite> getSprites () {
         List<ISprite> createdSprites = new ArrayList<ISprite>();
-        double randomX = new Random().nextDouble()*myXRange;
-        double randomY = new Random().nextDouble()*myYRange;
+        double randomX = getRandom().nextDouble()*myXRange;
+        double randomY = getRandom().nextDouble()*myYRange;
         Position offset = new Position(randomX, randomY);
         for (SpriteInfo si : mySprites) {
             Class<? extends ISprite> c = si.getSpriteClass();
@@ -68,4 +87,11 @@ public class RandomSpriteCluster {
         return createdSprites;
     }
 
+    private Random getRandom () {
+        if (myRandom == null) {
+            myRandom = mySeed == null ? new Random() : new Random(mySeed);
+        }
+        return myRandom;
+    }
+
 }
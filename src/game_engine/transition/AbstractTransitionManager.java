@@ -1,5 +1,6 @@
 package game_engine.transition;
 
+import game_engine.profiling.LevelTransitionEvent;
 import game_object.core.Game;
 import game_object.level.Level;
 
@@ -19,12 +20,20 @@ public abstract class AbstractTransitionManager implements ITransitionManager {
 	}
 
 	public Level readWinStatus(WinStatus ws) {
+		LevelTransitionEvent event = new LevelTransitionEvent();
+		event.begin();
+		Level from = myGame.getCurrentLevel();
 		if (ws == WinStatus.WON)
 			levelWon();
 		else if (ws == WinStatus.LOST)
 			levelLost();
 		else if (ws == WinStatus.GO_ON)
 			levelGoOn();
+		event.end();
+		if (event.shouldCommit()) {
+			event.set(ws.name(), from == null ? "" : from.getId(), returnLevel == null ? "" : returnLevel.getId());
+			event.commit();
+		}
 		
 		return returnLevel;
 	}
@@ -0,0 +1,56 @@
+package game_engine.transition;
+
+import game_object.core.Game;
+import game_object.core.Position;
+import game_object.level.Level;
+
+/**
+ * The basic level transitions -- go to the next level -- without any UI, so that a game can
+ * run where there is no JavaFX toolkit, e.g. on a server.
+ */
+public class HeadlessTransitionManager extends AbstractTransitionManager {
+
+	private Level myLevel;
+
+	public HeadlessTransitionManager(Game game, Level currentLevel) {
+		super(game);
+		myLevel = currentLevel;
+	}
+
+	@Override
+	public Level levelWonReturn() {
+		myLevel = myLevel.getNextLevel();
+		myGame.setCurrentLevel(myLevel);
+		if (myLevel == null) {
+			// the last level was won
+			return null;
+		}
+		myLevel.getHeros().get(0).setPosition(new Position(0,0));
+		return myLevel;
+	}
+
+	@Override
+	public Level levelLostReturn() {
+		Level level = myLevel;
+		while (level!=null) {
+			level=level.getNextLevel();
+		}
+		gameOver();
+		return level;
+	}
+
+	@Override
+	public Level levelGoOnReturn() {
+		return null;
+	}
+
+	public void setLevel(Level level) {
+		myLevel = level;
+	}
+
+	/**
+	 * Called when the game is lost; nothing to show here
+	 */
+	protected void gameOver() {
+	}
+}
@@ -1,9 +1,9 @@
 package game_engine.transition;
 
 import game_object.core.Game;
-import game_object.core.Position;
 import game_object.level.Level;
 import game_player.GamePlayer;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,11 +15,12 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 
 /**
- * Handles level transitions: the most basic rule -- go to the next level
+ * Handles level transitions: the most basic rule -- go to the next level -- and shows a
+ * game over window when the game is lost
  * 
  * @author Charlie Wang
  */
-public class TransitionManager extends AbstractTransitionManager {
+public class TransitionManager extends HeadlessTransitionManager {
     
         public static final String GAME_OVER = "GAME OVER!!!";
         public static final String FROWN = "img/frown.png";
@@ -27,44 +28,21 @@ public class TransitionManager extends AbstractTransitionManager {
         public static final String QUIT = "QUIT";
         public static final int SPACING = 50;
 
-	private Level myLevel;
-
 	public TransitionManager(Game game, Level currentLevel) {
-		super(game);
-		myLevel = currentLevel;
+		super(game, currentLevel);
 	}
 
 	@Override
-	public Level levelWonReturn() {
-	    //System.out.println(myLevel.getNextLevel());
-	    myLevel = myLevel.getNextLevel();
-	    //System.out.println(myLevel.getNextLevel());
-	    myGame.setCurrentLevel(myLevel);
-	    myLevel.getHeros().get(0).setPosition(new Position(0,0));
-	    return myLevel;
-		//return myLevel = myLevel.getNextLevel();
-	}
-
-	@Override
-	public Level levelLostReturn() {
-		Level level = myLevel;
-		while (level!=null) {
-			level=level.getNextLevel();
-		}
+	protected void gameOver() {
 		showGameOver();
-		return level;
-	}
-	
-	@Override
-	public Level levelGoOnReturn() {
-		return null;
-	}
-
-	public void setLevel(Level level) {
-		myLevel = level;
 	}
 	
 	private void showGameOver(){
+            if (!Platform.isFxApplicationThread()) {
+                // the game may run on a simulation thread
+                Platform.runLater(this::showGameOver);
+                return;
+            }
             Stage s = new Stage();
             s.setAlwaysOnTop(true);
             VBox root = new VBox();
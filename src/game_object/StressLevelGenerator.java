@@ -0,0 +1,327 @@
+package game_object;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import game_engine.random.RandomGenerationController;
+import game_engine.random.RandomSpriteCluster;
+import game_engine.random.SpriteInfo;
+import game_object.acting.ActionName;
+import game_object.acting.ActionTrigger;
+import game_object.acting.KeyEvent;
+import game_object.block.Block;
+import game_object.character.Enemy;
+import game_object.character.Hero;
+import game_object.constants.GameObjectConstants;
+import game_object.core.Dimension;
+import game_object.core.Game;
+import game_object.core.ISprite;
+import game_object.core.ImageStyle;
+import game_object.core.Position;
+import game_object.core.Velocity;
+import game_object.level.Level;
+import game_object.powerup.IPowerUp;
+import game_object.powerup.NewWeaponPowerUp;
+import game_object.powerup.ReplenishHealthPowerUp;
+import game_object.powerup.SpeedUpPowerUp;
+import javafx.scene.input.KeyCode;
+import serializing.Marshaller;
+
+/**
+ * Use this generator to get large games for profiling, e.g. of collision, physics and rendering.
+ *
+ * Every level has a hero with the usual triggers, a ground of blocks across the whole level,
+ * platforms, enemies with AI of which some shoot, and power-ups. The level is made as wide as
+ * needed for the given number of sprites per screen width. Random sprite clusters can be
+ * added as well. The same seed and settings always give the same game.
+ *
+ * Usage: StressLevelGenerator out.xml [-seed n] [-levels n] [-blocks n] [-enemies n]
+ *        [-powerups n] [-clusters n] [-density n] [-shooters ratio] [-followers ratio]
+ *        [-canvas true|false]
+ */
+public class StressLevelGenerator {
+
+	private static final double GROUND_Y = 600;
+	private static final double GROUND_WIDTH = 200;
+	private static final double GROUND_HEIGHT = 100;
+	private static final double PLATFORM_MIN_WIDTH = 50;
+	private static final double PLATFORM_MAX_WIDTH = 150;
+	private static final double PLATFORM_HEIGHT = 30;
+	private static final double PLATFORM_MAX_HEIGHT = 400;
+	private static final double CHARACTER_SIZE = 40;
+	private static final double POWER_UP_SIZE = 30;
+	private static final double HERO_X = 100;
+	private static final double HERO_Y = 100;
+	private static final double SPEED_UP_FACTOR = 0.2;
+	private static final double AIRBORNE_CHANCE = 0.25;
+	private static final int CLUSTER_MAX_SPRITES = 4;
+	private static final double CLUSTER_RANGE = 200;
+	private static final double CLUSTER_MIN_DISTANCE = 500;
+	private static final double CLUSTER_MAX_DISTANCE = 1500;
+
+	private long mySeed;
+	private int myLevelCount = 1;
+	private int myBlockCount = 1000;
+	private int myEnemyCount = 1000;
+	private int myPowerUpCount = 100;
+	private int myClusterCount = 0;
+	private double myDensity = 20;
+	private double myShooterRatio = 0.25;
+	private double myFollowerRatio = 0.1;
+	private boolean myCanvasRenderer;
+	private Random myRandom;
+
+	public StressLevelGenerator(long seed) {
+		mySeed = seed;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("usage: StressLevelGenerator out.xml [-seed n] [-levels n] [-blocks n] "
+					+ "[-enemies n] [-powerups n] [-clusters n] [-density n] [-shooters ratio] [-followers ratio] "
+					+ "[-canvas true|false]");
+			System.exit(1);
+		}
+		StressLevelGenerator generator = new StressLevelGenerator(0);
+		for (int i = 1; i + 1 < args.length; i += 2) {
+			generator.setOption(args[i], args[i + 1]);
+		}
+		Marshaller.saveGame(generator.generateGame(), "file:" + args[0]);
+	}
+
+	public void setSeed(long seed) {
+		mySeed = seed;
+	}
+
+	public void setLevelCount(int levelCount) {
+		myLevelCount = levelCount;
+	}
+
+	/**
+	 * @param blockCount blocks per level, the ground included
+	 */
+	public void setBlockCount(int blockCount) {
+		myBlockCount = blockCount;
+	}
+
+	/**
+	 * @param enemyCount enemies per level; they all have AI
+	 */
+	public void setEnemyCount(int enemyCount) {
+		myEnemyCount = enemyCount;
+	}
+
+	public void setPowerUpCount(int powerUpCount) {
+		myPowerUpCount = powerUpCount;
+	}
+
+	/**
+	 * @param clusterCount random sprite clusters repeated while the hero moves on
+	 */
+	public void setClusterCount(int clusterCount) {
+		myClusterCount = clusterCount;
+	}
+
+	/**
+	 * @param density blocks, enemies and power-ups per screen width
+	 */
+	public void setDensity(double density) {
+		myDensity = density;
+	}
+
+	/**
+	 * @param shooterRatio the part of the enemies that have a weapon
+	 */
+	public void setShooterRatio(double shooterRatio) {
+		myShooterRatio = shooterRatio;
+	}
+
+	/**
+	 * @param followerRatio the part of the shooting enemies whose projectiles follow the hero
+	 */
+	public void setFollowerRatio(double followerRatio) {
+		myFollowerRatio = followerRatio;
+	}
+
+	/**
+	 * @param canvasRenderer whether the game is drawn onto one Canvas, see Game.setCanvasRenderer
+	 */
+	public void setCanvasRenderer(boolean canvasRenderer) {
+		myCanvasRenderer = canvasRenderer;
+	}
+
+	public Game generateGame() {
+		myRandom = new Random(mySeed);
+		Game game = new Game("StressGame" + mySeed);
+		game.setCanvasRenderer(myCanvasRenderer);
+		Level previous = null;
+		for (int i = 0; i < myLevelCount; i++) {
+			Level level = generateLevel(game, "StressLevel" + i);
+			game.addLevel(level);
+			if (previous == null) {
+				game.setCurrentLevel(level);
+				game.setFirstSceneAsLevel(level);
+			} else {
+				previous.setNextLevel(level);
+			}
+			previous = level;
+		}
+		if (myClusterCount > 0) {
+			game.setRandomGenerationController(
+				new RandomGenerationController(game.getCurrentLevel(), generateClusters())
+			);
+		}
+		return game;
+	}
+
+	private Level generateLevel(Game game, String id) {
+		Level level = new Level(game, id);
+		double screenWidth = game.getScreenSize().getWidth();
+		int spriteCount = myBlockCount + myEnemyCount + myPowerUpCount;
+		double width = Math.max(screenWidth, spriteCount / myDensity * screenWidth);
+		Hero hero = new Hero(new Position(HERO_X, HERO_Y), new Dimension(CHARACTER_SIZE, CHARACTER_SIZE),
+				images(GameObjectConstants.BLUE_SNAIL_FILE));
+		hero.setVelocity(new Velocity(0, 0));
+		hero.setImageStyle(ImageStyle.FIT);
+		level.addSprite(hero);
+		addTriggers(level, hero);
+		addBlocks(level, width);
+		for (int i = 0; i < myEnemyCount; i++) {
+			level.addSprite(generateEnemy(width));
+		}
+		for (int i = 0; i < myPowerUpCount; i++) {
+			level.addSprite(generatePowerUp(width));
+		}
+		level.init();
+		return level;
+	}
+
+	private void addTriggers(Level level, Hero hero) {
+		level.getAllTriggers().add(new ActionTrigger(new KeyEvent(KeyCode.A), hero, ActionName.MOVE_LEFT));
+		level.getAllTriggers().add(new ActionTrigger(new KeyEvent(KeyCode.D), hero, ActionName.MOVE_RIGHT));
+		level.getAllTriggers().add(new ActionTrigger(new KeyEvent(KeyCode.W), hero, ActionName.JUMP));
+		level.getAllTriggers().add(new ActionTrigger(new KeyEvent(KeyCode.J), hero, ActionName.SHOOT));
+	}
+
+	/**
+	 * The ground comes first, as far as the blocks go; the rest are platforms above it.
+	 */
+	private void addBlocks(Level level, double width) {
+		List<String> groundImages = images(GameObjectConstants.MARIO_GROUND_FILE);
+		List<String> platformImages = images(GameObjectConstants.BRICK_FILE);
+		int groundCount = (int) Math.min(myBlockCount, Math.ceil(width / GROUND_WIDTH));
+		for (int i = 0; i < groundCount; i++) {
+			Block ground = new Block(new Position(i * GROUND_WIDTH, GROUND_Y),
+					new Dimension(GROUND_WIDTH, GROUND_HEIGHT), groundImages);
+			ground.setImageStyle(ImageStyle.TILE);
+			level.addSprite(ground);
+		}
+		for (int i = groundCount; i < myBlockCount; i++) {
+			double platformWidth = between(PLATFORM_MIN_WIDTH, PLATFORM_MAX_WIDTH);
+			double x = myRandom.nextDouble() * (width - platformWidth);
+			double y = GROUND_Y - between(PLATFORM_HEIGHT, PLATFORM_MAX_HEIGHT);
+			Block platform = new Block(new Position(x, y), new Dimension(platformWidth, PLATFORM_HEIGHT), platformImages);
+			platform.setImageStyle(ImageStyle.TILE);
+			level.addSprite(platform);
+		}
+	}
+
+	private Enemy generateEnemy(double width) {
+		double y = GROUND_Y - CHARACTER_SIZE;
+		if (myRandom.nextDouble() < AIRBORNE_CHANCE) {
+			y -= myRandom.nextDouble() * PLATFORM_MAX_HEIGHT;
+		}
+		Enemy enemy = new Enemy(new Position(myRandom.nextDouble() * (width - CHARACTER_SIZE), y),
+				new Dimension(CHARACTER_SIZE, CHARACTER_SIZE), images(GameObjectConstants.ORANGE_MUSHROOM_FILE));
+		enemy.setVelocity(new Velocity(0, 0));
+		enemy.setImageStyle(ImageStyle.FIT);
+		enemy.setHasAI(true);
+		if (myRandom.nextDouble() < myShooterRatio) {
+			if (myRandom.nextDouble() < myFollowerRatio) {
+				enemy.setCanProjectileFollowHero(true);
+			} else {
+				enemy.setShoot(true);
+			}
+		}
+		return enemy;
+	}
+
+	private IPowerUp generatePowerUp(double width) {
+		Position position = new Position(myRandom.nextDouble() * (width - POWER_UP_SIZE),
+				GROUND_Y - POWER_UP_SIZE - myRandom.nextDouble() * PLATFORM_MAX_HEIGHT);
+		Dimension dimension = new Dimension(POWER_UP_SIZE, POWER_UP_SIZE);
+		IPowerUp powerUp;
+		switch (myRandom.nextInt(3)) {
+		case 0:
+			powerUp = new NewWeaponPowerUp(position, dimension, images(GameObjectConstants.NEW_WEAPON_POWER_UP_FILE));
+			break;
+		case 1:
+			powerUp = new ReplenishHealthPowerUp(position, dimension, images(GameObjectConstants.HEALTH_POWER_UP_FILE));
+			break;
+		default:
+			powerUp = new SpeedUpPowerUp(position, dimension, images(GameObjectConstants.SPEEDUP_POWER_UP_FILE),
+					SPEED_UP_FACTOR);
+		}
+		powerUp.setImageStyle(ImageStyle.FIT);
+		return powerUp;
+	}
+
+	private List<RandomSpriteCluster> generateClusters() {
+		List<RandomSpriteCluster> clusters = new ArrayList<>();
+		for (int i = 0; i < myClusterCount; i++) {
+			RandomSpriteCluster cluster = new RandomSpriteCluster(CLUSTER_RANGE, CLUSTER_RANGE,
+					between(CLUSTER_MIN_DISTANCE, CLUSTER_MAX_DISTANCE));
+			int spriteCount = 1 + myRandom.nextInt(CLUSTER_MAX_SPRITES);
+			for (int j = 0; j < spriteCount; j++) {
+				Class<? extends ISprite> spriteClass = myRandom.nextBoolean() ? Block.class : Enemy.class;
+				List<String> imagePaths = images(spriteClass == Block.class ? GameObjectConstants.BRICK_FILE
+						: GameObjectConstants.ORANGE_MUSHROOM_FILE);
+				Position relativePosition = new Position(j * CHARACTER_SIZE, GROUND_Y - CLUSTER_RANGE - CHARACTER_SIZE);
+				cluster.addSprite(new SpriteInfo(spriteClass, imagePaths,
+						new Dimension(CHARACTER_SIZE, CHARACTER_SIZE), relativePosition));
+			}
+			cluster.setSeed(myRandom.nextLong());
+			clusters.add(cluster);
+		}
+		return clusters;
+	}
+
+	private void setOption(String name, String value) {
+		if ("-seed".equals(name)) {
+			setSeed(Long.parseLong(value));
+		} else if ("-levels".equals(name)) {
+			setLevelCount(Integer.parseInt(value));
+		} else if ("-blocks".equals(name)) {
+			setBlockCount(Integer.parseInt(value));
+		} else if ("-enemies".equals(name)) {
+			setEnemyCount(Integer.parseInt(value));
+		} else if ("-powerups".equals(name)) {
+			setPowerUpCount(Integer.parseInt(value));
+		} else if ("-clusters".equals(name)) {
+			setClusterCount(Integer.parseInt(value));
+		} else if ("-density".equals(name)) {
+			setDensity(Double.parseDouble(value));
+		} else if ("-shooters".equals(name)) {
+			setShooterRatio(Double.parseDouble(value));
+		} else if ("-followers".equals(name)) {
+			setFollowerRatio(Double.parseDouble(value));
+		} else if ("-canvas".equals(name)) {
+			setCanvasRenderer(Boolean.parseBoolean(value));
+		} else {
+			throw new IllegalArgumentException("unknown option " + name);
+		}
+	}
+
+	private double between(double min, double max) {
+		return min + myRandom.nextDouble() * (max - min);
+	}
+
+	private List<String> images(String path) {
+		List<String> images = new ArrayList<>();
+		images.add(path);
+		return images;
+	}
+
+}
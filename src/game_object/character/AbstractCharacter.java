@@ -90,6 +90,26 @@ abstract class AbstractCharacter extends AbstractSprite implements ICharacter {
 			setValid(!this.getDead());
 		}
 	}
+	
+	@Override
+	public void onContactEnter(ICollisionBody otherBody, CollisionDirection collisionDirection) {
+		if (otherBody instanceof Block) {
+			getCollideWithBlockStrategy().onCollisionEnter(this, (Block) otherBody, collisionDirection);
+		}
+		else if (otherBody instanceof Projectile && ((Projectile) otherBody).getParent() != this) {
+			getAttackByProjectileStrategy().onCollisionEnter(this, (Projectile) otherBody, collisionDirection);
+		}
+	}
+	
+	@Override
+	public void onContactExit(ICollisionBody otherBody) {
+		if (otherBody instanceof Block) {
+			getCollideWithBlockStrategy().onCollisionExit(this, (Block) otherBody);
+		}
+		else if (otherBody instanceof Projectile && ((Projectile) otherBody).getParent() != this) {
+			getAttackByProjectileStrategy().onCollisionExit(this, (Projectile) otherBody);
+		}
+	}
 	/* ---ICollisionBody Implementation END--- */
 
 
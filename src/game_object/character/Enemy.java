@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import game_engine.collision.CollisionEngine.CollisionDirection;
+import game_engine.log.Log;
+import game_engine.log.Logger;
 import game_object.block.Block;
 import game_object.collision.AttackCollisionStrategy;
 import game_object.collision.ICollisionStrategy;
@@ -19,6 +21,7 @@ public class Enemy extends AbstractCharacter {
 
 	private static final long serialVersionUID = -6360150217648638907L;
 	private static final double DEFAULT_SCORE_VALUE = 100;
+	private static final Logger LOG = Log.getLogger(Enemy.class);
 	
 	private boolean myHasAI = false;
 	private List<ICollisionStrategy<Enemy, Hero>> myHeroStrategyList;
@@ -134,11 +137,35 @@ public class Enemy extends AbstractCharacter {
         //p.getModel().
     }
 	
+    @Override
+    public void onContactEnter(ICollisionBody otherBody, CollisionDirection collisionDirection) {
+        super.onContactEnter(otherBody, collisionDirection);
+        if (otherBody instanceof Hero) {
+            for (ICollisionStrategy<Enemy, Hero> strategy : myHeroStrategyList) {
+                if (strategy.isValid()) {
+                    strategy.onCollisionEnter(this, (Hero) otherBody, collisionDirection);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onContactExit(ICollisionBody otherBody) {
+        super.onContactExit(otherBody);
+        if (otherBody instanceof Hero) {
+            for (ICollisionStrategy<Enemy, Hero> strategy : myHeroStrategyList) {
+                if (strategy.isValid()) {
+                    strategy.onCollisionExit(this, (Hero) otherBody);
+                }
+            }
+        }
+    }
+	
     public void onCollideWith(Hero h, CollisionDirection collisionDirection) {
-        System.out.println(collisionDirection);
-        
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(() -> "hit by hero from " + collisionDirection);
+        }
     	for (ICollisionStrategy<Enemy, Hero> strategy : myHeroStrategyList) {
-    	    System.out.println(strategy.isValid());
     		if (strategy.isValid()) {
     		    
     			strategy.applyCollision(this, h, collisionDirection);
@@ -104,6 +104,30 @@ public class Hero extends AbstractCharacter implements IUpgrader {
     	}
     }
 
+    @Override
+    public void onContactEnter(ICollisionBody otherBody, CollisionDirection collisionDirection) {
+    	super.onContactEnter(otherBody, collisionDirection);
+    	if (otherBody instanceof Enemy) {
+    		for (ICollisionStrategy<Hero, Enemy> strategy : myEnemyStrategyList) {
+    			if (strategy.isValid()) {
+    				strategy.onCollisionEnter(this, (Enemy) otherBody, collisionDirection);
+    			}
+    		}
+    	}
+    }
+
+    @Override
+    public void onContactExit(ICollisionBody otherBody) {
+    	super.onContactExit(otherBody);
+    	if (otherBody instanceof Enemy) {
+    		for (ICollisionStrategy<Hero, Enemy> strategy : myEnemyStrategyList) {
+    			if (strategy.isValid()) {
+    				strategy.onCollisionExit(this, (Enemy) otherBody);
+    			}
+    		}
+    	}
+    }
+
     @Override
     public void onCollideWith(IPowerUp p, CollisionDirection collisionDirection) {
         p.affect(this);
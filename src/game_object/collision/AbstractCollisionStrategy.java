@@ -1,5 +1,6 @@
 package game_object.collision;
 
+import game_engine.collision.CollisionEngine.CollisionDirection;
 import game_object.simulation.ICollisionBody;
 
 public abstract class AbstractCollisionStrategy<A extends ICollisionBody, B extends ICollisionBody>
@@ -17,5 +18,13 @@ public abstract class AbstractCollisionStrategy<A extends ICollisionBody, B exte
 		return myValid;
 	}
 	
+	@Override
+	public void onCollisionEnter(A a, B b, CollisionDirection collisionDirection) {
+	}
+	
+	@Override
+	public void onCollisionExit(A a, B b) {
+	}
+	
 
 }
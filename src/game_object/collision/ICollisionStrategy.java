@@ -27,6 +27,21 @@ public interface ICollisionStrategy<A extends ICollisionBody, B extends ICollisi
 	 */
 	void applyCollision(A a, B b, CollisionDirection collisionDirection);
 	
+	/**
+	 * Called once when a starts touching b, before the first applyCollision.
+	 * @param a
+	 * @param b
+	 * @param collisionDirection the side of A that was hit
+	 */
+	void onCollisionEnter(A a, B b, CollisionDirection collisionDirection);
+	
+	/**
+	 * Called once when a stops touching b.
+	 * @param a
+	 * @param b
+	 */
+	void onCollisionExit(A a, B b);
+	
 	
 	
 }
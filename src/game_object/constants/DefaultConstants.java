@@ -35,4 +35,8 @@ public class DefaultConstants {
 	public static final int LEVEL_WIDTH = 10000;
 	public static final int LEVEL_HEIGHT = 1200;
 	
+	public static final int MAX_TICKS_PER_FRAME = 5;
+	// elapsed time the engine is given per second of game time
+	public static final double TIME_SCALE = 5.0;
+	
 }
@@ -40,6 +40,7 @@ public abstract class AbstractSprite implements ISprite {
 
     static {
         staticPivotPosition = new Position(0, 0);
+        staticPreviousPivotPosition = new Position(0, 0);
         staticSpriteScavenger = new SpriteScavenger();
     }
 
@@ -99,6 +100,9 @@ public abstract class AbstractSprite implements ISprite {
 
     @Override
     public void setPreviousPosition (Position previousPosition) {
+        // the previous position is set once a tick, so the one it replaces is where the sprite
+        // was a tick earlier, which is where drawing in between ticks starts from
+        myInterpolationStart = myPreviousPosition;
         myPreviousPosition = previousPosition;
     }
 
@@ -188,6 +192,16 @@ public abstract class AbstractSprite implements ISprite {
 
     public void onCollideWith (Projectile p, CollisionDirection collisionDirection) {
 
+    }
+
+    @Override
+    public void onContactEnter (ICollisionBody otherBody, CollisionDirection collisionDirection) {
+
+    }
+
+    @Override
+    public void onContactExit (ICollisionBody otherBody) {
+
     }
     /* ---ICollisionBody Implementations END--- */
 
@@ -236,17 +250,30 @@ public abstract class AbstractSprite implements ISprite {
 
     /* ISpriteVisualization Implementations */
     private static Position staticPivotPosition;
+    private static Position staticPreviousPivotPosition;
     private static Dimension staticPivotDimension;
     private static double X_SCROLL_THRESHOLD = DefaultConstants.X_SCROLL_THRESHOLD;
     private static double Y_SCROLL_PERCENT = DefaultConstants.Y_SCROLL_PERCENT;
 
     private double myScrollOffset = 0;
     private double myHeightOffset = 0;
+    private transient Position myInterpolationStart;
 
     public static Position getStaticPivotPosition () {
         return staticPivotPosition;
     }
 
+    /**
+     * Moves the pivot and remembers where it was, so that the screen can scroll smoothly
+     * between ticks.
+     */
+    public static void setStaticPivotPosition (double x, double y) {
+        staticPreviousPivotPosition.setX(staticPivotPosition.getX());
+        staticPreviousPivotPosition.setY(staticPivotPosition.getY());
+        staticPivotPosition.setX(x);
+        staticPivotPosition.setY(y);
+    }
+
     public static void setStaticPivotDimension (Dimension pivotDimension) {
         staticPivotDimension = pivotDimension;
     }
@@ -259,7 +286,43 @@ public abstract class AbstractSprite implements ISprite {
 
     @Override
     public double getXForVisualization () {
-        double staticX = staticPivotPosition.getX();
+        return toVisualX(myPosition.getX(), staticPivotPosition.getX());
+    }
+
+    @Override
+    public double getYForVisualization () {
+        return toVisualY(myPosition.getY(), staticPivotPosition.getY());
+    }
+
+    @Override
+    public double getXForVisualization (double alpha) {
+        double back = 1 - alpha;
+        double pivotStep = staticPivotPosition.getX() - staticPreviousPivotPosition.getX();
+        return toVisualX(myPosition.getX() - back * getLastStep(alpha, true),
+                         staticPivotPosition.getX() - back * pivotStep);
+    }
+
+    @Override
+    public double getYForVisualization (double alpha) {
+        double back = 1 - alpha;
+        double pivotStep = staticPivotPosition.getY() - staticPreviousPivotPosition.getY();
+        return toVisualY(myPosition.getY() - back * getLastStep(alpha, false),
+                         staticPivotPosition.getY() - back * pivotStep);
+    }
+
+    /**
+     * @return how far the sprite moved in the last tick along x or y, or 0 if it is drawn
+     *         where the last tick left it
+     */
+    private double getLastStep (double alpha, boolean horizontal) {
+        if (alpha >= 1 || myInterpolationStart == null || myPreviousPosition == null) {
+            return 0;
+        }
+        return horizontal ? myPreviousPosition.getX() - myInterpolationStart.getX()
+                          : myPreviousPosition.getY() - myInterpolationStart.getY();
+    }
+
+    private double toVisualX (double x, double staticX) {
         if (staticX + myScrollOffset < X_SCROLL_THRESHOLD) {
             myScrollOffset += X_SCROLL_THRESHOLD - staticX - myScrollOffset;
         }
@@ -268,14 +331,13 @@ public abstract class AbstractSprite implements ISprite {
                     staticX + myScrollOffset - staticPivotDimension.getWidth() + X_SCROLL_THRESHOLD;
         }
 
-        return myPosition.getX() + myScrollOffset;
+        return x + myScrollOffset;
     }
 
-    @Override
-    public double getYForVisualization () {
-        myHeightOffset = -staticPivotPosition.getY() +
+    private double toVisualY (double y, double staticY) {
+        myHeightOffset = -staticY +
                 Y_SCROLL_PERCENT * staticPivotDimension.getHeight();
-        return myPosition.getY() - staticPivotPosition.getY() +
+        return y - staticY +
                Y_SCROLL_PERCENT * staticPivotDimension.getHeight();
     }
 
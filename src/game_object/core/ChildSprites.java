@@ -14,6 +14,7 @@ public class ChildSprites implements Serializable {
 	private static final long serialVersionUID = -893579088475848584L;
 	private List<ISprite> mySprites;
 	private boolean myChanged;
+	private transient List<IChildSpritesListener> myListeners;
 	
 	public ChildSprites() {
 		mySprites = new ArrayList<>();
@@ -22,12 +23,16 @@ public class ChildSprites implements Serializable {
 	
 	public boolean addSprite(ISprite sprite) {
 		myChanged = true;
-		return mySprites.add(sprite);
+		boolean added = mySprites.add(sprite);
+		notifyListeners();
+		return added;
 	}
 	
 	public boolean removeSprite(ISprite sprite) {
 		myChanged = true;
-		return mySprites.remove(sprite);
+		boolean removed = mySprites.remove(sprite);
+		notifyListeners();
+		return removed;
 	}
 	
 	public boolean isChanged() {
@@ -38,12 +43,40 @@ public class ChildSprites implements Serializable {
 		myChanged = changed;
 	}
 
+	/**
+	 * Has the listener told of every add and remove from now on, e.g. so that only the levels
+	 * the sprite is in have to look at its children again. Adding a listener twice has no
+	 * effect. Listeners are not saved with the sprite.
+	 */
+	public void addListener(IChildSpritesListener listener) {
+		if (myListeners == null) {
+			myListeners = new ArrayList<>(1);
+		}
+		if (!myListeners.contains(listener)) {
+			myListeners.add(listener);
+		}
+	}
+
+	public void removeListener(IChildSpritesListener listener) {
+		if (myListeners != null) {
+			myListeners.remove(listener);
+		}
+	}
+
 	/**
 	 * Get all sprites. 
-	 * @return
+	 * @return the children, which are not to be changed other than through this class
 	 */
 	public List<ISprite> getSprites() {
 		return mySprites;
 	}
 
+	private void notifyListeners() {
+		if (myListeners != null) {
+			for (IChildSpritesListener listener : myListeners) {
+				listener.childSpritesChanged(this);
+			}
+		}
+	}
+
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import game_engine.collision.CollisionEngineType;
 import game_engine.enemyai.EnemyLevelTypes;
 import game_engine.random.RandomGenerationController;
 import game_object.constants.DefaultConstants;
@@ -24,8 +25,14 @@ public class Game {
     private List<Level> myLevels;
     private Dimension myScreenSize;
     private int myFPS;
+    private int myTickRate;
+    private int myMaxTicksPerFrame;
+    private boolean mySimulationThread;
+    private boolean myCanvasRenderer;
     private GameStatistics myGameStats;
     private EnemyLevelTypes myEnemyDifficulty;
+    private CollisionEngineType myCollisionEngineType;
+    private boolean myParallelNarrowphase;
     private RandomGenerationController myRandomGenerationController;
 
     private Level myFirstSceneAsLevel;
@@ -42,6 +49,7 @@ public class Game {
         );
         myFPS = 60;
         myEnemyDifficulty = EnemyLevelTypes.MEDIUM;
+        myCollisionEngineType = CollisionEngineType.BRUTE_FORCE;
         myGameStats = new GameStatistics(this);
         initDefaultGameInfo();
     }
@@ -61,6 +69,26 @@ public class Game {
         return myEnemyDifficulty;
     }
 
+    public void setCollisionEngineType(CollisionEngineType collisionEngineType) {
+        myCollisionEngineType = collisionEngineType;
+    }
+
+    public CollisionEngineType getCollisionEngineType() {
+        return myCollisionEngineType;
+    }
+
+    /**
+     * @param parallelNarrowphase whether collision directions are computed on several
+     * threads; callbacks still happen in the same order on the game thread
+     */
+    public void setParallelNarrowphase(boolean parallelNarrowphase) {
+        myParallelNarrowphase = parallelNarrowphase;
+    }
+
+    public boolean isParallelNarrowphase() {
+        return myParallelNarrowphase;
+    }
+
     public Dimension getScreenSize() {
         return myScreenSize;
     }
@@ -94,6 +122,54 @@ public class Game {
         return myFPS;
     }
 
+    /**
+     * @param tickRate simulation ticks per second, run at a fixed timestep and drawn
+     * in between; 0 runs one tick per frame
+     */
+    public void setTickRate(int tickRate) {
+        myTickRate = tickRate;
+    }
+
+    public int getTickRate() {
+        return myTickRate;
+    }
+
+    /**
+     * @param maxTicksPerFrame the most ticks run for one frame when the game falls behind;
+     * 0 uses DefaultConstants.MAX_TICKS_PER_FRAME
+     */
+    public void setMaxTicksPerFrame(int maxTicksPerFrame) {
+        myMaxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    public int getMaxTicksPerFrame() {
+        return myMaxTicksPerFrame > 0 ? myMaxTicksPerFrame : DefaultConstants.MAX_TICKS_PER_FRAME;
+    }
+
+    /**
+     * @param simulationThread whether the game runs on its own thread, with the
+     * JavaFX thread only drawing what it publishes
+     */
+    public void setSimulationThread(boolean simulationThread) {
+        mySimulationThread = simulationThread;
+    }
+
+    public boolean hasSimulationThread() {
+        return mySimulationThread;
+    }
+
+    /**
+     * @param canvasRenderer whether the player draws all sprites onto one Canvas each
+     * frame, instead of keeping an ImageView per sprite
+     */
+    public void setCanvasRenderer(boolean canvasRenderer) {
+        myCanvasRenderer = canvasRenderer;
+    }
+
+    public boolean hasCanvasRenderer() {
+        return myCanvasRenderer;
+    }
+
     /* Game Statistics */
     public GameStatistics getGameStats() {
         return myGameStats;
@@ -0,0 +1,8 @@
+package game_object.core;
+
+/**
+ * Told when a sprite is added to or removed from a ChildSprites it listens to.
+ */
+public interface IChildSpritesListener {
+	void childSpritesChanged(ChildSprites childSprites);
+}
@@ -1,8 +1,10 @@
 package game_object.level;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import game_engine.collision.BoundingVolumeHierarchy;
 import game_engine.collision.Boundary;
 import game_engine.physics.PhysicsParameters;
 import game_object.acting.ActionName;
@@ -21,6 +23,7 @@ import game_object.core.Velocity;
 import game_object.powerup.IPowerUp;
 import game_object.visualization.ILevelVisualization;
 import game_object.visualization.ISpriteVisualization;
+import game_object.visualization.ZOrderIndex;
 import game_object.weapon.Projectile;
 import goal.IGoal;
 
@@ -49,6 +52,12 @@ public class Level implements ILevelVisualization {
     private List<Projectile> myProjectiles;
     private List<IPowerUp> myPowerUps;
     private SpriteScavenger mySpriteScavenger;
+    private transient BoundingVolumeHierarchy<Block> myStaticBlockTree;
+    private transient boolean myStaticBlocksChanged;
+    private transient SpriteRegistry mySpriteRegistry;
+    private transient ZOrderIndex<ISprite> myRenderOrder;
+    private transient List<ISpriteVisualization> mySpriteVisuals;
+    private transient int myRenderOrderVersion;
     
     private static final double DEFAULT_DIMENSION_WIDTH = 2000;
     private static final double DEFAULT_DIMENSION_HEIGHT = 800;
@@ -84,21 +93,16 @@ public class Level implements ILevelVisualization {
         return myParentGame;
     }
 
+    /**
+     * The list is kept up to date as sprites are added and removed, instead of being copied
+     * together on every call. Sprites added while looping over it show up on the next call,
+     * so do not call this again inside such a loop. Invalid sprites are only taken out by
+     * sweepSprites(), once per update().
+     * 
+     * @return a read-only view of every sprite of this level, children first
+     */
     public List<ISprite> getAllSprites () {
-        cleanup();
-        List<ISprite> spriteList = new ArrayList<>();
-        spriteList.addAll(myHeros);
-        spriteList.addAll(myEnemies);
-        spriteList.addAll(myBlocks);
-        spriteList.addAll(myPowerUps);
-        spriteList.addAll(getRuntimeSprites());
-
-        List<ISprite> spriteListWithChildren = new ArrayList<>();
-        for (ISprite sprite : spriteList) {
-            spriteListWithChildren.addAll(sprite.getChildSprites().getSprites());
-        }
-        spriteListWithChildren.addAll(spriteList);
-        return spriteListWithChildren;
+        return getSpriteRegistry().getSprites();
     }
 
     /* Level Dimensions */
@@ -168,6 +172,7 @@ public class Level implements ILevelVisualization {
         }
         else if (sprite instanceof Block) {
             myBlocks.add((Block) sprite);
+            myStaticBlocksChanged = true;
         }
         else if (sprite instanceof IPowerUp) {
             myPowerUps.add((IPowerUp) sprite);
@@ -175,25 +180,53 @@ public class Level implements ILevelVisualization {
         else if (sprite instanceof Projectile) {
             myProjectiles.add((Projectile) sprite);
         }
+        else {
+            return;
+        }
+        getSpriteRegistry().spriteAdded(sprite);
     }
 
     public void removeSprite (ISprite sprite) {
+        boolean removed = false;
         if (sprite instanceof Hero) {
-            myHeros.remove(sprite);
+            removed = myHeros.remove(sprite);
         }
         else if (sprite instanceof Enemy) {
-            myEnemies.remove(sprite);
+            removed = myEnemies.remove(sprite);
         }
         else if (sprite instanceof Block) {
-            myBlocks.remove(sprite);
+            removed = myBlocks.remove(sprite);
+            myStaticBlocksChanged |= removed;
         }
         else if (sprite instanceof IPowerUp) {
-            myPowerUps.remove(sprite);
+            removed = myPowerUps.remove(sprite);
         }
         else if (sprite instanceof Projectile) {
-            myProjectiles.remove(sprite);
+            removed = myProjectiles.remove(sprite);
+        }
+        if (removed) {
+            getSpriteRegistry().spriteRemoved(sprite);
         }
     }
+
+    /**
+     * Takes every invalid sprite, and every sprite that left the map, out of the level in
+     * one go. Called once per frame by update().
+     */
+    public void sweepSprites () {
+        // I intentionally made this verbose just for my own sanity.
+        List<ISprite> removed = new ArrayList<>();
+        mySpriteScavenger.setBorderDimension(myMapEnd);
+        mySpriteScavenger.scavengeList(myEnemies, removed);
+        mySpriteScavenger.scavengeList(myProjectiles, removed);
+        mySpriteScavenger.scavengeList(myPowerUps, removed);
+        int blockCount = myBlocks.size();
+        mySpriteScavenger.scavengeList(myBlocks, removed);
+        if (myBlocks.size() != blockCount) {
+            myStaticBlocksChanged = true;
+        }
+        getSpriteRegistry().spritesRemoved(removed);
+    }
     /* ---Add/Remove specific sprites END--- */
 
     /* Accessors for background, characters and blocks */
@@ -215,6 +248,10 @@ public class Level implements ILevelVisualization {
     public void replaceAllHerosAndTriggersWithLevel (Level level) {
         myHeros = level.getHeros();
         myTriggers = level.getAllTriggers();
+        if (mySpriteRegistry != null) {
+            mySpriteRegistry.dispose();
+        }
+        mySpriteRegistry = null;
     }
 
     public List<Hero> getHeros () {
@@ -229,6 +266,19 @@ public class Level implements ILevelVisualization {
         return myBlocks;
     }
 
+    /**
+     * Blocks never move, so the tree is built once in init() and only rebuilt after a block
+     * was added or removed.
+     * 
+     * @return an AABB tree over the blocks of this level
+     */
+    public BoundingVolumeHierarchy<Block> getStaticBlockTree () {
+        if (myStaticBlockTree == null || myStaticBlocksChanged) {
+            buildStaticBlockTree();
+        }
+        return myStaticBlockTree;
+    }
+
     public List<Projectile> getProjectiles () {
         return myProjectiles;
     }
@@ -274,8 +324,6 @@ public class Level implements ILevelVisualization {
     /* ---Goals END--- */
 
     /* ILevelVisualization Implementations */
-    private List<ISpriteVisualization> mySpriteVisuals = new ArrayList<>();
-
     @Override
     public void init () {
         if (myHeros.size() == 0) {
@@ -283,43 +331,63 @@ public class Level implements ILevelVisualization {
         }
         AbstractSprite.setStaticPivotDimension(getParentGame().getScreenSize());
         mySpriteScavenger.setBorderDimension(myMapEnd);
+        sweepSprites();
+        buildStaticBlockTree();
     }
 
     @Override
     public void update () {
+        sweepSprites();
         List<ISprite> allSprites = getAllSprites();
-        allSprites.sort( (s1, s2) -> s1.getPosition().getZ() > s2.getPosition().getZ() ? 1 : -1);
         for (ISprite sprite : allSprites) {
             sprite.setPreviousPosition(Position.getCopiedInstance(sprite.getPosition()));
             sprite.setPreviousVelocity(Velocity.getCopiedInstance(sprite.getVelocity()));
         }
         myBoundary.getPosition().setX(-myHeros.get(0).getScrollOffset());
         myBoundary.getPosition().setY(-myHeros.get(0).getHeightOffset());
-        mySpriteVisuals.clear();
-        mySpriteVisuals.addAll(allSprites);
+        // the z of a sprite can change without the level knowing, e.g. when physics gives it
+        // a new Position, so the index checks every sprite, but only re-sorts what changed
+        ZOrderIndex<ISprite> renderOrder = getRenderOrder();
+        if (myRenderOrderVersion != getSpriteRegistry().getVersion()) {
+            renderOrder.setItems(allSprites);
+            myRenderOrderVersion = getSpriteRegistry().getVersion();
+        }
+        renderOrder.update();
     }
 
+    /**
+     * @return a read-only view of the sprites as of the last update(), back to front
+     */
     @Override
     public List<ISpriteVisualization> getAllSpriteVisualizations () {
+        getRenderOrder();
         return mySpriteVisuals;
     }
 
     /* ---ILevelVisualization Implementations END--- */
     
     /* private */
-    private List<ISprite> getRuntimeSprites () {
-        List<ISprite> runtimeSprites = new ArrayList<>();
-        runtimeSprites.addAll(myProjectiles);
-        return runtimeSprites;
+    private SpriteRegistry getSpriteRegistry () {
+        // transient, so it is missing after the level was loaded from XML
+        if (mySpriteRegistry == null) {
+            mySpriteRegistry = new SpriteRegistry(this);
+            myRenderOrderVersion = -1;
+        }
+        return mySpriteRegistry;
     }
 
-    private void cleanup () {
-        // I intentionally made this verbose just for my own sanity.
-        mySpriteScavenger.setBorderDimension(myMapEnd);
-        mySpriteScavenger.scavengeList(myEnemies);
-        mySpriteScavenger.scavengeList(myProjectiles);
-        mySpriteScavenger.scavengeList(myPowerUps);
-        mySpriteScavenger.scavengeList(myBlocks);
+    private ZOrderIndex<ISprite> getRenderOrder () {
+        if (myRenderOrder == null) {
+            myRenderOrder = new ZOrderIndex<>(sprite -> sprite.getPosition().getZ());
+            mySpriteVisuals = Collections.unmodifiableList(myRenderOrder.getItems());
+            myRenderOrderVersion = -1;
+        }
+        return myRenderOrder;
+    }
+
+    private void buildStaticBlockTree () {
+        myStaticBlockTree = new BoundingVolumeHierarchy<>(myBlocks);
+        myStaticBlocksChanged = false;
     }
     /* private END--- */
 
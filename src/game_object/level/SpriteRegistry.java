@@ -0,0 +1,252 @@
+package game_object.level;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import game_object.block.Block;
+import game_object.character.Enemy;
+import game_object.character.Hero;
+import game_object.core.ChildSprites;
+import game_object.core.IChildSpritesListener;
+import game_object.core.ISprite;
+import game_object.powerup.IPowerUp;
+import game_object.weapon.Projectile;
+
+
+/**
+ * Keeps the list returned by Level.getAllSprites, so it does not have to be put together
+ * again on every call. The list has the order it always had: the children of the heroes,
+ * enemies, blocks, power-ups and projectiles, then those sprites themselves.
+ *
+ * Adding or removing a sprite only queues the change. Queued changes are applied the next
+ * time the list is read, all removals in one pass over the list, so a loop over the list
+ * can add sprites to the level without disturbing itself.
+ *
+ * If the children of one of the level's sprites changed, which the registry hears of by
+ * listening to the ChildSprites of every sprite in the list, or a list of the level was
+ * changed behind the level's back (e.g. heroes shared with another level), the list is put
+ * together again from scratch. A registry that is no longer used has to be dispose()d, so the
+ * sprites it listened to stop telling it.
+ */
+class SpriteRegistry implements IChildSpritesListener {
+
+    private static final int KINDS = 5;
+    private static final int SEGMENTS = 2 * KINDS;
+
+    private final Level myLevel;
+    private final List<ISprite> mySprites;
+    private final List<ISprite> myView;
+    // segment s is mySprites[myEnds[s - 1], myEnds[s]): the children of the sprites of kind s
+    // for s < KINDS, the sprites of kind s - KINDS otherwise
+    private final int[] myEnds;
+    private final List<ISprite> myAdded;
+    private final Set<ISprite> myRemoved;
+    private boolean myChildrenChanged;
+    private boolean myBuilt;
+    private int myVersion;
+
+    SpriteRegistry (Level level) {
+        myLevel = level;
+        mySprites = new ArrayList<>();
+        myView = Collections.unmodifiableList(mySprites);
+        myEnds = new int[SEGMENTS];
+        myAdded = new ArrayList<>();
+        myRemoved = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * @return a read-only view of all sprites, which stays the same object from call to call
+     */
+    List<ISprite> getSprites () {
+        if (!myBuilt || myChildrenChanged) {
+            rebuild();
+            return myView;
+        }
+        if (!myRemoved.isEmpty()) {
+            compact();
+        }
+        for (ISprite sprite : myAdded) {
+            insert(sprite);
+        }
+        myAdded.clear();
+        if (!isInSync()) {
+            rebuild();
+        }
+        return myView;
+    }
+
+    /**
+     * @return a number that changes whenever a sprite joins or leaves the list
+     */
+    int getVersion () {
+        return myVersion;
+    }
+
+    void spriteAdded (ISprite sprite) {
+        myAdded.add(sprite);
+    }
+
+    void spriteRemoved (ISprite sprite) {
+        if (!myAdded.remove(sprite)) {
+            myRemoved.add(sprite);
+        }
+    }
+
+    void spritesRemoved (Collection<ISprite> sprites) {
+        for (ISprite sprite : sprites) {
+            spriteRemoved(sprite);
+        }
+    }
+
+    @Override
+    public void childSpritesChanged (ChildSprites childSprites) {
+        myChildrenChanged = true;
+    }
+
+    /**
+     * Stops listening to the children of the sprites in the list.
+     */
+    void dispose () {
+        stopListening();
+        mySprites.clear();
+        myAdded.clear();
+        myRemoved.clear();
+        myBuilt = false;
+    }
+
+    private void rebuild () {
+        stopListening();
+        mySprites.clear();
+        for (int kind = 0; kind < KINDS; kind++) {
+            for (ISprite sprite : getList(kind)) {
+                sprite.getChildSprites().addListener(this);
+                mySprites.addAll(sprite.getChildSprites().getSprites());
+            }
+            myEnds[kind] = mySprites.size();
+        }
+        for (int kind = 0; kind < KINDS; kind++) {
+            mySprites.addAll(getList(kind));
+            myEnds[KINDS + kind] = mySprites.size();
+        }
+        myAdded.clear();
+        myRemoved.clear();
+        myChildrenChanged = false;
+        myBuilt = true;
+        myVersion++;
+    }
+
+    /**
+     * Drops every removed sprite, and its children, in one pass over the list.
+     */
+    private void compact () {
+        for (ISprite sprite : new ArrayList<>(myRemoved)) {
+            sprite.getChildSprites().removeListener(this);
+            myRemoved.addAll(sprite.getChildSprites().getSprites());
+        }
+        int kept = 0;
+        int segment = 0;
+        for (int i = 0; i < mySprites.size(); i++) {
+            while (segment < SEGMENTS && myEnds[segment] == i) {
+                myEnds[segment++] = kept;
+            }
+            ISprite sprite = mySprites.get(i);
+            if (!myRemoved.contains(sprite)) {
+                mySprites.set(kept++, sprite);
+            }
+        }
+        for (; segment < SEGMENTS; segment++) {
+            myEnds[segment] = kept;
+        }
+        mySprites.subList(kept, mySprites.size()).clear();
+        myRemoved.clear();
+        myVersion++;
+    }
+
+    private void insert (ISprite sprite) {
+        int kind = getKind(sprite);
+        if (kind < 0) {
+            return;
+        }
+        sprite.getChildSprites().addListener(this);
+        for (ISprite child : sprite.getChildSprites().getSprites()) {
+            insertAt(kind, child);
+        }
+        insertAt(KINDS + kind, sprite);
+    }
+
+    /**
+     * Removes the registry from the ChildSprites of the sprites in the list, not their children.
+     */
+    private void stopListening () {
+        for (int i = myEnds[KINDS - 1]; i < mySprites.size(); i++) {
+            mySprites.get(i).getChildSprites().removeListener(this);
+        }
+    }
+
+    private void insertAt (int segment, ISprite sprite) {
+        mySprites.add(myEnds[segment], sprite);
+        for (int s = segment; s < SEGMENTS; s++) {
+            myEnds[s]++;
+        }
+        myVersion++;
+    }
+
+    private boolean isInSync () {
+        for (int kind = 0; kind < KINDS; kind++) {
+            int start = myEnds[KINDS + kind - 1];
+            if (myEnds[KINDS + kind] - start != getList(kind).size()) {
+                return false;
+            }
+        }
+        // the heroes may be shared with another level, which changes them behind our back;
+        // there are only a few of them, so they are compared one by one
+        List<? extends ISprite> heros = getList(0);
+        for (int i = 0; i < heros.size(); i++) {
+            if (mySprites.get(myEnds[KINDS - 1] + i) != heros.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the kind of the sprite, in the same order as Level.addSprite tells them apart
+     */
+    private int getKind (ISprite sprite) {
+        if (sprite instanceof Hero) {
+            return 0;
+        }
+        else if (sprite instanceof Enemy) {
+            return 1;
+        }
+        else if (sprite instanceof Block) {
+            return 2;
+        }
+        else if (sprite instanceof IPowerUp) {
+            return 3;
+        }
+        else if (sprite instanceof Projectile) {
+            return 4;
+        }
+        return -1;
+    }
+
+    private List<? extends ISprite> getList (int kind) {
+        switch (kind) {
+            case 0:
+                return myLevel.getHeros();
+            case 1:
+                return myLevel.getEnemies();
+            case 2:
+                return myLevel.getStaticBlocks();
+            case 3:
+                return myLevel.getPowerUps();
+            default:
+                return myLevel.getProjectiles();
+        }
+    }
+
+}
@@ -1,12 +1,9 @@
 package game_object.level;
 
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import game_engine.collision.Boundary;
-import game_object.core.Dimension;
 import game_object.core.ISprite;
-import game_object.core.Position;
 
 public class SpriteScavenger {
 	
@@ -18,19 +15,26 @@ public class SpriteScavenger {
 	}
 	
 	public void scavengeList(List<? extends ISprite> list) {
-		Set<ISprite> removeSet = new HashSet<>();
-		for (ISprite sprite : list) {
-			if (sprite != null) {
-				if (!sprite.isValid() || isOutOfBoundary(sprite)) {
-					removeSet.add(sprite);
-				}
+		list.removeIf(sprite -> sprite != null && (!sprite.isValid() || isOutOfBoundary(sprite)));
+	}
+	
+	/**
+	 * Same as scavengeList(list), but also collects the removed sprites.
+	 * @param list
+	 * @param removed where the sprites taken out of the list are added
+	 */
+	public void scavengeList(List<? extends ISprite> list, Collection<ISprite> removed) {
+		list.removeIf(sprite -> {
+			if (sprite != null && (!sprite.isValid() || isOutOfBoundary(sprite))) {
+				removed.add(sprite);
+				return true;
 			}
-		}
-		list.removeAll(removeSet);
+			return false;
+		});
 	}
 	
 	private boolean isOutOfBoundary(ISprite sprite) {
-		return !myBorderDimension.overlaps(new Boundary(sprite.getPosition(),sprite.getDimension()));
+		return !myBorderDimension.overlaps(sprite.getPosition(), sprite.getDimension());
 	}
 	
 }
@@ -29,4 +29,18 @@ public interface ICollisionBody extends IPhysicsBody {
 
 	void onCollideWith(Projectile p, CollisionDirection collisionDirection);
 	
+	/**
+	 * Called once when this body starts touching otherBody, before the first onCollideWith.
+	 * @param otherBody
+	 * @param collisionDirection the side of this body that was hit
+	 */
+	void onContactEnter(ICollisionBody otherBody, CollisionDirection collisionDirection);
+	
+	/**
+	 * Called once at the end of the first collision pass in which this body no longer touches
+	 * otherBody.
+	 * @param otherBody
+	 */
+	void onContactExit(ICollisionBody otherBody);
+	
 }
@@ -21,6 +21,18 @@ public interface ISpriteVisualization {
 	
 	double getYForVisualization();
 	
+	/**
+	 * @param alpha where to draw the sprite between the tick before the last one (0)
+	 * and the last one (1)
+	 */
+	double getXForVisualization(double alpha);
+	
+	/**
+	 * @param alpha where to draw the sprite between the tick before the last one (0)
+	 * and the last one (1)
+	 */
+	double getYForVisualization(double alpha);
+	
 	double getWidthForVisualization();
 	
 	double getHeightForVisualization();
@@ -0,0 +1,171 @@
+package game_object.visualization;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Keeps items sorted back to front by their z value, so that the order does not have to be
+ * sorted from scratch every frame. Items with the same z keep the order they were added in.
+ *
+ * Nothing tells the index when an item's z changes, so update() compares each item's z with
+ * the one it was sorted by and only moves the items whose z changed.
+ *
+ * @param <T> the type of the items
+ */
+public class ZOrderIndex<T> {
+
+	private static final int MAX_SINGLE_MOVES = 16;
+	private static final Comparator<Entry<?>> BACK_TO_FRONT = (e1, e2) -> {
+		int byZ = Double.compare(e1.myZ, e2.myZ);
+		return byZ != 0 ? byZ : Long.compare(e1.mySequence, e2.mySequence);
+	};
+
+	private final ToDoubleFunction<? super T> myZ;
+	private final List<Entry<T>> myEntries;
+	private final Map<T, Entry<T>> myEntryOf;
+	private final List<T> myView;
+	private long myNextSequence;
+
+	/**
+	 * @param z gives the z value of an item; larger means more to the front
+	 */
+	public ZOrderIndex(ToDoubleFunction<? super T> z) {
+		myZ = z;
+		myEntries = new ArrayList<>();
+		myEntryOf = new IdentityHashMap<>();
+		myView = new AbstractList<T>() {
+			@Override
+			public T get(int index) {
+				return myEntries.get(index).myItem;
+			}
+
+			@Override
+			public int size() {
+				return myEntries.size();
+			}
+		};
+	}
+
+	/**
+	 * @return a read-only view of the items, back to front
+	 */
+	public List<T> getItems() {
+		return myView;
+	}
+
+	public int size() {
+		return myEntries.size();
+	}
+
+	public boolean contains(T item) {
+		return myEntryOf.containsKey(item);
+	}
+
+	public void add(T item) {
+		if (myEntryOf.containsKey(item)) {
+			return;
+		}
+		Entry<T> entry = new Entry<>(item, myZ.applyAsDouble(item), myNextSequence++);
+		myEntryOf.put(item, entry);
+		insert(entry);
+	}
+
+	public void remove(T item) {
+		Entry<T> entry = myEntryOf.remove(item);
+		if (entry != null) {
+			myEntries.remove(Collections.binarySearch(myEntries, entry, BACK_TO_FRONT));
+		}
+	}
+
+	/**
+	 * Makes the index hold exactly the given items, removing the others in one pass. New items
+	 * are added in the order given.
+	 */
+	public void setItems(List<? extends T> items) {
+		Set<T> present = Collections.newSetFromMap(new IdentityHashMap<>());
+		present.addAll(items);
+		if (present.size() != myEntries.size() || !present.containsAll(myEntryOf.keySet())) {
+			myEntries.removeIf(entry -> !present.contains(entry.myItem));
+			myEntryOf.keySet().retainAll(present);
+		}
+		List<Entry<T>> added = new ArrayList<>();
+		for (T item : items) {
+			if (!myEntryOf.containsKey(item)) {
+				Entry<T> entry = new Entry<>(item, myZ.applyAsDouble(item), myNextSequence++);
+				myEntryOf.put(item, entry);
+				added.add(entry);
+			}
+		}
+		if (added.size() > MAX_SINGLE_MOVES) {
+			myEntries.addAll(added);
+			myEntries.sort(BACK_TO_FRONT);
+		}
+		else {
+			added.forEach(this::insert);
+		}
+	}
+
+	/**
+	 * Moves the items whose z changed since they were sorted.
+	 *
+	 * @return whether the order changed
+	 */
+	public boolean update() {
+		List<Entry<T>> moved = null;
+		for (Entry<T> entry : myEntries) {
+			double z = myZ.applyAsDouble(entry.myItem);
+			if (Double.compare(z, entry.myZ) != 0) {
+				if (moved == null) {
+					moved = new ArrayList<>();
+				}
+				moved.add(entry);
+			}
+		}
+		if (moved == null) {
+			return false;
+		}
+		if (moved.size() > MAX_SINGLE_MOVES) {
+			moved.forEach(entry -> entry.myZ = myZ.applyAsDouble(entry.myItem));
+			myEntries.sort(BACK_TO_FRONT);
+			return true;
+		}
+		Set<Entry<T>> movedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		movedSet.addAll(moved);
+		myEntries.removeIf(movedSet::contains);
+		for (Entry<T> entry : moved) {
+			entry.myZ = myZ.applyAsDouble(entry.myItem);
+			insert(entry);
+		}
+		return true;
+	}
+
+	private void insert(Entry<T> entry) {
+		int index = Collections.binarySearch(myEntries, entry, BACK_TO_FRONT);
+		myEntries.add(-index - 1, entry);
+	}
+
+	/**
+	 * An item with the z it is sorted by; the sequence number breaks ties.
+	 */
+	private static class Entry<T> {
+
+		private final T myItem;
+		private final long mySequence;
+		private double myZ;
+
+		private Entry(T item, double z, long sequence) {
+			myItem = item;
+			myZ = z;
+			mySequence = sequence;
+		}
+
+	}
+
+}
@@ -35,6 +35,10 @@ public class WeaponModel {
 		return new WeaponModel(blueGunImgs, 0, enemybulletModel, 0);
 	}
 	
+	public List<String> getImagePaths() {
+		return myImagePaths;
+	}
+
 	public double getDamage() {
 		return myDamage;
 	}
@@ -3,6 +3,7 @@ package game_player;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,21 +13,32 @@ import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 
 import game_engine.GameEngine_Game;
+import game_engine.RenderSnapshot;
+import game_engine.SimulationThread;
+import game_engine.profiling.FrameProfiler;
+import game_engine.profiling.ProfilerPhase;
+import game_engine.profiling.TickLog;
 import game_object.acting.Event;
 import game_object.acting.KeyEvent;
 import game_object.background.Background;
+import game_object.constants.DefaultConstants;
 import game_object.core.Game;
 import game_object.core.ISprite;
 import game_object.level.Level;
 import game_object.visualization.ISpriteVisualization;
+import game_player.image.CanvasRenderer;
+import game_player.image.ImageCache;
+import game_player.image.ImagePathCollector;
 import game_player.image.ImageRenderer;
+import game_player.image.TextureAtlas;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.util.Duration;
 
 /**
@@ -38,6 +50,8 @@ import javafx.util.Duration;
 public class GameRunner implements IEndListener{
 	
 	private GameEngine_Game myGameEngine;
+	private SimulationThread mySimulation;
+	private long myLastFrameTime;
 
 	private KeyFrame frame;
 	private Timeline animation;
@@ -47,7 +61,9 @@ public class GameRunner implements IEndListener{
 	private Level originalLevel;
 	private Level runningLevel;
 	
-	private Map<ISpriteVisualization, ImageView> spriteViewMap;
+	private Map<ISpriteVisualization, SpriteView> spriteViewMap;
+	private Map<Long, SpriteView> snapshotViewMap;
+	private long myFrame;
 	private Map<Level, Level> running2origin;
 	private Set<Event> currentlyPressedKeys;
 	
@@ -55,7 +71,12 @@ public class GameRunner implements IEndListener{
 	private Scene myScene;
 	private Consumer<Level> myLevelChangeHandler;
 	private ImageRenderer myRenderer;
+	private CanvasRenderer myCanvasRenderer;
 	private HUDController myHudController;
+	private FrameProfiler myProfiler;
+	private TickLog myTicks;
+	private long mySnapshotSequence;
+	private ProfilerController myProfilerController;
 	private IEndListener myEndListener;
 
 	public GameRunner(Scene s, Game game, Consumer<Level> levelChangeHandler, IEndListener listener) {
@@ -68,10 +89,20 @@ public class GameRunner implements IEndListener{
 //		});
 		currentlyPressedKeys = new HashSet<>();
 		spriteViewMap = new HashMap<>();
+		snapshotViewMap = new HashMap<>();
 		running2origin = new HashMap<>();
 		myView = new GameRunningView();
 		myLevelChangeHandler = levelChangeHandler;
 		myRenderer = new ImageRenderer();
+		// timed on the JavaFX thread only; the engine's phases are recorded into it
+		myProfiler = new FrameProfiler();
+		myTicks = new TickLog();
+		// packed once, restarts show the same images
+		myRenderer.setAtlas(TextureAtlas.pack(ImagePathCollector.collect(originalGame)));
+		if (originalGame.hasCanvasRenderer()) {
+			myCanvasRenderer = new CanvasRenderer(originalGame.getScreenSize().getWidth(),
+					originalGame.getScreenSize().getHeight(), myRenderer);
+		}
 		myEndListener = listener;
 		init();
 	}
@@ -80,6 +111,10 @@ public class GameRunner implements IEndListener{
 		return myHudController;
 	}
 	
+	public ProfilerController getProfilerController() {
+		return myProfilerController;
+	}
+	
 	public GameRunningView getRunningView() {
 		return myView;
 	}
@@ -92,18 +127,59 @@ public class GameRunner implements IEndListener{
 		return runningLevel;
 	}
 
+	/**
+	 * runs the command on the thread that ticks the running game: at the start of the next
+	 * tick of the simulation thread if there is one, else right away
+	 */
+	public void runOnEngineThread(Runnable command) {
+		if (mySimulation != null) {
+			mySimulation.execute(command);
+		} else {
+			command.run();
+		}
+	}
+
+	/**
+	 * stops the animation and the simulation thread, if any, for good
+	 */
+	public void stop() {
+		if (animation != null) {
+			animation.stop();
+		}
+		if (mySimulation != null) {
+			mySimulation.stop();
+			mySimulation = null;
+		}
+	}
+
 	private void init() {
 		runningGame = copyGame(originalGame);
 		myGameEngine = new GameEngine_Game(runningGame, this);
 		myGameEngine.suppressLogDebug();
 		myHudController = new HUDController(runningGame);
+		myProfilerController = new ProfilerController(myProfiler);
 		
 		clear();
 		initRunning2Origin();
 		initFrame();
+		initSimulation();
 		initAnimation();
 	}
 
+	private void initSimulation() {
+		if (mySimulation != null) {
+			mySimulation.stop();
+			mySimulation = null;
+		}
+		if (runningGame.hasSimulationThread()) {
+			mySimulation = new SimulationThread(myGameEngine, runningGame, DefaultConstants.TIME_SCALE);
+			mySimulation.setStatisticsSource(myHudController::readStatistics);
+			mySimulation.start();
+		} else {
+			myGameEngine.getProfiler().setTickLog(myTicks);
+		}
+	}
+
 	private void initRunning2Origin() {
 		List<Level> origin = originalGame.getAllLevelsReadOnly();
 		List<Level> running = runningGame.getAllLevelsReadOnly();
@@ -116,6 +192,10 @@ public class GameRunner implements IEndListener{
 		myView.clearSpriteViews();
 		currentlyPressedKeys.clear();
 		spriteViewMap.clear();
+		snapshotViewMap.clear();
+		if (mySimulation != null) {
+			mySimulation.releaseAllKeys();
+		}
 	}
 
 	private void initFrame() {
@@ -123,70 +203,165 @@ public class GameRunner implements IEndListener{
 				new EventHandler<ActionEvent>() {
 			@Override
 			public void handle (ActionEvent event) {
+				if (mySimulation != null) {
+					RenderSnapshot snapshot = mySimulation.acquireSnapshot();
+					try {
+						drawSnapshot(snapshot);
+					} finally {
+						mySimulation.releaseSnapshot(snapshot);
+					}
+					return;
+				}
 				if (myGameEngine.isShutDown()) return;
 				Level currentLevel = runningGame.getCurrentLevel();
-				if (runningLevel != currentLevel) {
-					runningLevel = currentLevel;
-					originalLevel = running2origin.get(runningLevel);
-					myLevelChangeHandler.accept(originalLevel);
-					clear();
-					initBackground();
-					initHud();
-					keyTriggers2Controls();
-				}
+				changeLevel(currentLevel);
 				myGameEngine.setInputList(currentlyPressedKeys);
-				myGameEngine.update(5.0 / runningGame.getFPS());
+				myGameEngine.updateFrame(getFrameTime(), DefaultConstants.TIME_SCALE);
+				myProfiler.record(myTicks);
+				myTicks.clear();
 				update();
 			}
 		});
 	}
 
+	private void changeLevel(Level currentLevel) {
+		if (runningLevel != currentLevel) {
+			runningLevel = currentLevel;
+			originalLevel = running2origin.get(runningLevel);
+			myLevelChangeHandler.accept(originalLevel);
+			clear();
+			initBackground();
+			if (myCanvasRenderer != null) {
+				myView.addCanvas(myCanvasRenderer.getCanvas());
+			}
+			initHud();
+			keyTriggers2Controls();
+		}
+	}
+
+	/**
+	 * draws what the simulation thread published last, without touching the engine
+	 */
+	private void drawSnapshot(RenderSnapshot snapshot) {
+		if (snapshot == null) return;
+		if (snapshot.getSequence() != mySnapshotSequence) {
+			mySnapshotSequence = snapshot.getSequence();
+			myProfiler.record(snapshot.getTicks());
+		}
+		if (snapshot.isShutDown()) return;
+		changeLevel(snapshot.getLevel());
+		long begin = myProfiler.begin();
+		double alpha = snapshot.getAlpha(System.nanoTime());
+		myFrame++;
+		for (int i = 0; i < snapshot.size(); i++) {
+			if (myCanvasRenderer != null) {
+				myCanvasRenderer.add(snapshot.getImagePath(i), snapshot.getImageStyle(i), snapshot.getX(i, alpha),
+						snapshot.getY(i, alpha), snapshot.getWidth(i), snapshot.getHeight(i), snapshot.getZ(i),
+						snapshot.isFacingLeft(i));
+				continue;
+			}
+			long id = snapshot.getId(i);
+			SpriteView view = snapshotViewMap.get(id);
+			if (view == null) {
+				view = new SpriteView(myRenderer.render(
+						snapshot.getImagePath(i),
+						snapshot.getImageStyle(i),
+						snapshot.getWidth(i),
+						snapshot.getHeight(i)));
+				snapshotViewMap.put(id, view);
+				myView.addSpriteView(view.getView());
+			}
+			view.update(snapshot.getX(i, alpha), snapshot.getY(i, alpha), snapshot.isFacingLeft(i), myFrame);
+		}
+		myHudController.updateStatisticsMap(snapshot.getStatistics());
+		if (myCanvasRenderer != null) {
+			myCanvasRenderer.draw();
+		} else {
+			//remove what's not in the snapshot
+			removeUnseenViews(snapshotViewMap);
+		}
+		myProfiler.end(ProfilerPhase.RENDER_DIFF, begin);
+		myProfilerController.update();
+	}
+
+	private double getFrameTime() {
+		long now = System.nanoTime();
+		double frameTime = myLastFrameTime == 0 ? 1.0 / runningGame.getFPS() : (now - myLastFrameTime) / 1e9;
+		myLastFrameTime = now;
+		return frameTime;
+	}
+
 	private void update() {
+		long begin = myProfiler.begin();
+		double alpha = myGameEngine.getInterpolationAlpha();
+		myFrame++;
 		for (ISpriteVisualization sprite : myGameEngine.getSprites()) {
-			if (!spriteViewMap.containsKey(sprite)) {
+			double x = sprite.getXForVisualization(alpha);
+			double y = sprite.getYForVisualization(alpha);
+			if (myCanvasRenderer != null) {
+				double z = sprite instanceof ISprite ? ((ISprite) sprite).getPosition().getZ() : 0;
+				myCanvasRenderer.add(sprite.getImagePath(), sprite.getImageStyle(), x, y,
+						sprite.getWidthForVisualization(), sprite.getHeightForVisualization(), z, sprite.isFacingLeft());
+				continue;
+			}
+			SpriteView view = spriteViewMap.get(sprite);
+			if (view == null) {
 				//new sprite
-				addSpriteViewWithSprite(sprite);
-			} else {
-				spriteViewMap.get(sprite).setScaleX(sprite.isFacingLeft() ? 1 : -1);
+				view = addSpriteViewWithSprite(sprite);
 			}
-			spriteViewMap.get(sprite).setX(sprite.getXForVisualization());
-			spriteViewMap.get(sprite).setY(sprite.getYForVisualization());
+			view.update(x, y, sprite.isFacingLeft(), myFrame);
 		}
 		
 		myGameEngine.getSpritesOffScreen().forEach(s->{
-		    s.getXForVisualization();
-		    s.getYForVisualization();
+		    s.getXForVisualization(alpha);
+		    s.getYForVisualization(alpha);
 		});
 		
 		myHudController.updateStatisticsMap();
-		//remove what's not returned from game engine
-		Set<ISpriteVisualization> removing = new HashSet<>(spriteViewMap.keySet());
-		removing.removeAll(myGameEngine.getSprites());
-		for (ISpriteVisualization sprite : removing) {
-			myView.removeSpriteView(spriteViewMap.get(sprite));
-			spriteViewMap.remove(sprite);
+		if (myCanvasRenderer != null) {
+			myCanvasRenderer.draw();
+		} else {
+			//remove what's not returned from game engine
+			removeUnseenViews(spriteViewMap);
 		}
+		myProfiler.end(ProfilerPhase.RENDER_DIFF, begin);
+		myProfilerController.update();
 	}
 	
-	private void addSpriteViewWithSprite(ISpriteVisualization sprite) {
-		ImageView image = createNewImageViewForSprite(sprite);
-		spriteViewMap.put(sprite, image);
-		myView.addSpriteView(image);
+	private SpriteView addSpriteViewWithSprite(ISpriteVisualization sprite) {
+		SpriteView view = new SpriteView(createNewImageViewForSprite(sprite));
+		spriteViewMap.put(sprite, view);
+		myView.addSpriteView(view.getView());
+		return view;
+	}
+
+	/**
+	 * removes, in one pass, the views whose sprites were not seen in this frame
+	 */
+	private void removeUnseenViews(Map<?, SpriteView> views) {
+		Iterator<SpriteView> iterator = views.values().iterator();
+		while (iterator.hasNext()) {
+			SpriteView view = iterator.next();
+			if (!view.wasSeenIn(myFrame)) {
+				myView.removeSpriteView(view.getView());
+				iterator.remove();
+			}
+		}
 	}
 	
 	private ImageView createNewImageViewForSprite(ISpriteVisualization sprite) {
-		Image image = new Image(sprite.getImagePath());
 		return myRenderer.render(
-				image, 
+				sprite.getImagePath(), 
 				sprite.getImageStyle(), 
 				sprite.getWidthForVisualization(), 
 				sprite.getHeightForVisualization());
 	}
 	
 	private void initBackground() {
-		Background background = myGameEngine.getBackground();
+		// the level being drawn, which the engine may already have moved on from
+		Background background = runningLevel.getBackground();
 		if (background.getImagePaths().size() < 1) return;
-		ImageView bckGrdImg = new ImageView(background.getImagePaths().get(0));
+		ImageView bckGrdImg = new ImageView(ImageCache.getInstance().get(background.getImagePaths().get(0)));
 		bckGrdImg.setFitWidth(runningLevel.getDimension().getWidth());
 		bckGrdImg.setFitWidth(runningLevel.getDimension().getHeight());
 		myView.addSpriteView(bckGrdImg);
@@ -194,9 +369,11 @@ public class GameRunner implements IEndListener{
 	
 	private void initHud() {
 		myView.getViews().getChildren().add(myHudController.getView());
+		myView.getViews().getChildren().add(myProfilerController.getView());
 	}
 
 	private void initAnimation() {
+		myLastFrameTime = 0;
 		if (animation != null) {
 			animation.stop();
 		}
@@ -207,8 +384,28 @@ public class GameRunner implements IEndListener{
 	}
 
 	private void keyTriggers2Controls() {
+		if (mySimulation != null) {
+			myScene.setOnKeyReleased(event -> mySimulation.keyReleased(new KeyEvent(event.getCode())));
+			myScene.setOnKeyPressed(event -> {
+				if (toggleProfiler(event.getCode())) return;
+				mySimulation.keyPressed(new KeyEvent(event.getCode()));
+			});
+			return;
+		}
 		myScene.setOnKeyReleased(event-> currentlyPressedKeys.remove(new KeyEvent(event.getCode())));
-		myScene.setOnKeyPressed(event -> currentlyPressedKeys.add(new KeyEvent(event.getCode())));
+		myScene.setOnKeyPressed(event -> {
+			if (toggleProfiler(event.getCode())) return;
+			currentlyPressedKeys.add(new KeyEvent(event.getCode()));
+		});
+	}
+
+	/**
+	 * @return true if the key toggled the profiler overlay, and so is not game input
+	 */
+	private boolean toggleProfiler(KeyCode code) {
+		if (!myProfilerController.isToggleKey(code)) return false;
+		myProfilerController.toggle();
+		return true;
 	}
 
 	private Game copyGame(Game game) {
@@ -218,7 +415,12 @@ public class GameRunner implements IEndListener{
 
 	@Override
 	public void onEnd() {
-		animation.stop();
+		if (!Platform.isFxApplicationThread()) {
+			// the engine ends the game on the simulation thread
+			Platform.runLater(this::onEnd);
+			return;
+		}
+		stop();
 		myEndListener.onEnd();
 		
 	}
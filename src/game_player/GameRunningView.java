@@ -2,6 +2,7 @@ package game_player;
 
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.image.ImageView;
 
 public class GameRunningView {
@@ -28,6 +29,13 @@ public class GameRunningView {
 		myRoot.getChildren().remove(image);
 	}
 	
+	/**
+	 * adds the canvas all sprites are drawn onto, for games drawn by a CanvasRenderer
+	 */
+	public void addCanvas(Canvas canvas) {
+		myRoot.getChildren().add(canvas);
+	}
+	
 	
 
 }
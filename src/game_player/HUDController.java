@@ -29,12 +29,29 @@ public class HUDController {
 		myView.updateView();
 	}
 	
+	/**
+	 * shows statistics read earlier with readStatistics, e.g. on another thread
+	 */
+	public void updateStatisticsMap(Map<String, String> statistics) {
+		myStatisticsMap.putAll(statistics);
+		myView.updateView();
+	}
+	
+	/**
+	 * reads the statistics from the game without touching the view
+	 */
+	public Map<String, String> readStatistics() {
+		Map<String, String> statistics = new HashMap<>();
+		statistics.put(myResources.getString("Health"), myGameStatistics.getHealthOfHero(0));
+		statistics.put(myResources.getString("FPS"), myGameStatistics.getFPS());
+		statistics.put(myResources.getString("XPosition"), myGameStatistics.getXPosOfHero(0));
+		statistics.put(myResources.getString("YPosition"), myGameStatistics.getYPosOfHero(0));
+		statistics.put(myResources.getString("Score"), myGameStatistics.getScoreOfHero(0));
+		return statistics;
+	}
+	
 	private void createStatisticsMap(){
-		myStatisticsMap.put(myResources.getString("Health"), myGameStatistics.getHealthOfHero(0));
-		myStatisticsMap.put(myResources.getString("FPS"), myGameStatistics.getFPS());
-		myStatisticsMap.put(myResources.getString("XPosition"), myGameStatistics.getXPosOfHero(0));
-		myStatisticsMap.put(myResources.getString("YPosition"), myGameStatistics.getYPosOfHero(0));
-		myStatisticsMap.put(myResources.getString("Score"), myGameStatistics.getScoreOfHero(0));
+		myStatisticsMap.putAll(readStatistics());
 	}
 	
 	public Node getView(){
@@ -0,0 +1,55 @@
+package game_player;
+
+import java.util.ResourceBundle;
+
+import game_engine.profiling.FrameProfiler;
+import game_player.image.ImageCache;
+import javafx.scene.Node;
+import javafx.scene.input.KeyCode;
+import resources.ResourceBundles;
+
+/**
+ * Overlay of the FrameProfiler next to the HUD. It is hidden until the toggle key is pressed,
+ * and while shown it is refreshed every few frames, since working out the percentiles sorts
+ * the samples of every phase.
+ */
+public class ProfilerController {
+	private static final int REFRESH_FRAMES = 30;
+	private ResourceBundle myResources = ResourceBundles.languageProperties;
+	private FrameProfiler myProfiler;
+	private ProfilerView myView;
+	private KeyCode myToggleKey;
+	private int myFramesUntilRefresh;
+
+	public ProfilerController(FrameProfiler profiler) {
+		myProfiler = profiler;
+		myView = new ProfilerView();
+		myView.setVisible(false);
+		myToggleKey = KeyCode.valueOf(myResources.getString("ProfilerToggleKey"));
+	}
+
+	public boolean isToggleKey(KeyCode code) {
+		return code == myToggleKey;
+	}
+
+	public void toggle() {
+		myView.setVisible(!myView.isVisible());
+		myFramesUntilRefresh = 0;
+		update();
+	}
+
+	/**
+	 * called once a frame on the JavaFX thread
+	 */
+	public void update() {
+		if (!myView.isVisible() || myFramesUntilRefresh-- > 0) return;
+		myFramesUntilRefresh = REFRESH_FRAMES;
+		myView.updateView(myProfiler.getAllStatistics());
+		myView.addImageCacheRow(ImageCache.getInstance());
+	}
+
+	public Node getView() {
+		return myView.getView();
+	}
+
+}
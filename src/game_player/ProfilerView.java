@@ -0,0 +1,75 @@
+package game_player;
+
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import game_engine.profiling.PhaseStatistics;
+import game_engine.profiling.ProfilerPhase;
+import game_player.image.ImageCache;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import resources.ResourceBundles;
+
+/**
+ * Shows the p50, p99 and maximum milliseconds of every phase of the game loop, and how well
+ * the image cache does, styled like the HUDView.
+ */
+public class ProfilerView {
+	private static final double NANOS_PER_MILLI = 1e6;
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+	private ResourceBundle myResources = ResourceBundles.languageProperties;
+	private VBox myStatsView;
+
+	public ProfilerView() {
+		myStatsView = new VBox();
+		myStatsView.getStyleClass().add(myResources.getString("HUDVBoxStyle"));
+		myStatsView.setLayoutY(Double.parseDouble(myResources.getString("ProfilerLayoutY")));
+	}
+
+	public void updateView(Map<ProfilerPhase, PhaseStatistics> statistics) {
+		myStatsView.getChildren().clear();
+		myStatsView.getChildren().add(createRow(myResources.getString("ProfilerHeader"), ""));
+		for (Map.Entry<ProfilerPhase, PhaseStatistics> entry : statistics.entrySet()) {
+			PhaseStatistics stats = entry.getValue();
+			String value = String.format("%.2f / %.2f / %.2f", stats.getMedian() / NANOS_PER_MILLI,
+					stats.getP99() / NANOS_PER_MILLI, stats.getMax() / NANOS_PER_MILLI);
+			myStatsView.getChildren().add(createRow(entry.getKey().name(), value));
+		}
+	}
+
+	/**
+	 * Adds a row with the hits, misses and megabytes of the image cache.
+	 */
+	public void addImageCacheRow(ImageCache cache) {
+		String value = String.format("%d / %d / %.1f", cache.getHits(), cache.getMisses(),
+				cache.getBytes() / BYTES_PER_MEGABYTE);
+		myStatsView.getChildren().add(createRow(myResources.getString("ProfilerImageCache"), value));
+	}
+
+	public void setVisible(boolean visible) {
+		myStatsView.setVisible(visible);
+	}
+
+	public boolean isVisible() {
+		return myStatsView.isVisible();
+	}
+
+	public Node getView() {
+		return myStatsView;
+	}
+
+	private HBox createRow(String label, String value) {
+		HBox hBox = new HBox();
+		hBox.getStyleClass().add(myResources.getString("HUDHBoxStyle"));
+		Label field = new Label(label);
+		field.getStyleClass().add(myResources.getString("HUDFieldLabelStyle"));
+		Text fieldValue = new Text(value);
+		fieldValue.getStyleClass().add(myResources.getString("HUDFieldValueStyle"));
+		hBox.getChildren().addAll(field, fieldValue);
+		return hBox;
+	}
+
+}
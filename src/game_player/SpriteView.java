@@ -0,0 +1,65 @@
+package game_player;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * The ImageView of one sprite on screen, with the position and facing last given to it and
+ * the frame the sprite was last seen in.
+ *
+ * The GameRunner stamps every view it is given a sprite for with the number of the frame, so
+ * a view that was not stamped in a frame belongs to a sprite that is gone. A view is only
+ * changed when the sprite's position or facing differs from what the view already shows.
+ */
+class SpriteView {
+
+	private final ImageView myView;
+	private double myX;
+	private double myY;
+	private double myScaleX;
+	private long myLastSeenFrame;
+
+	SpriteView(ImageView view) {
+		myView = view;
+		// NaN differs from every value, so the first update sets them all
+		myX = Double.NaN;
+		myY = Double.NaN;
+		myScaleX = Double.NaN;
+		myLastSeenFrame = -1;
+	}
+
+	ImageView getView() {
+		return myView;
+	}
+
+	/**
+	 * Moves and flips the view to show the sprite, and marks it seen in the frame.
+	 *
+	 * @return whether the view had to be changed
+	 */
+	boolean update(double x, double y, boolean facingLeft, long frame) {
+		myLastSeenFrame = frame;
+		boolean dirty = false;
+		if (x != myX) {
+			myX = x;
+			myView.setX(x);
+			dirty = true;
+		}
+		if (y != myY) {
+			myY = y;
+			myView.setY(y);
+			dirty = true;
+		}
+		double scaleX = facingLeft ? 1 : -1;
+		if (scaleX != myScaleX) {
+			myScaleX = scaleX;
+			myView.setScaleX(scaleX);
+			dirty = true;
+		}
+		return dirty;
+	}
+
+	boolean wasSeenIn(long frame) {
+		return myLastSeenFrame == frame;
+	}
+
+}
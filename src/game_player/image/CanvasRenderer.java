@@ -0,0 +1,110 @@
+package game_player.image;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import game_object.core.ImageStyle;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws every sprite of a frame onto one Canvas, back to front by z, instead of keeping an
+ * ImageView node per sprite. The scene graph then has one node however many sprites are on
+ * screen, which pays off with thousands of projectiles.
+ *
+ * A frame is drawn by add()ing its sprites in any order and then calling draw(). Every sprite
+ * is one drawImage call: of its region of the ImageRenderer's TextureAtlas when the atlas holds
+ * the image, of the ImageRenderer's cached tiled snapshot for tiled sprites, and otherwise of
+ * the image from the ImageCache. The entries of a frame are reused by the next one.
+ */
+public class CanvasRenderer {
+
+	private static final Comparator<Entry> BACK_TO_FRONT = Comparator.comparingDouble(entry -> entry.myZ);
+
+	private final Canvas myCanvas;
+	private final ImageRenderer myRenderer;
+	private final List<Entry> myEntries;
+	private final List<Entry> myFrame;
+
+	/**
+	 * @param renderer gives the atlas and the tiled snapshots shared with the ImageViews
+	 */
+	public CanvasRenderer(double width, double height, ImageRenderer renderer) {
+		myCanvas = new Canvas(width, height);
+		myRenderer = renderer;
+		myEntries = new ArrayList<>();
+		myFrame = new ArrayList<>();
+	}
+
+	public Canvas getCanvas() {
+		return myCanvas;
+	}
+
+	/**
+	 * Adds a sprite to the frame being put together.
+	 */
+	public void add(String imagePath, ImageStyle style, double x, double y, double width, double height,
+			double z, boolean facingLeft) {
+		if (myFrame.size() == myEntries.size()) {
+			myEntries.add(new Entry());
+		}
+		Entry entry = myEntries.get(myFrame.size());
+		entry.myImagePath = imagePath;
+		entry.myStyle = style;
+		entry.myX = x;
+		entry.myY = y;
+		entry.myWidth = width;
+		entry.myHeight = height;
+		entry.myZ = z;
+		entry.myFacingLeft = facingLeft;
+		myFrame.add(entry);
+	}
+
+	/**
+	 * Clears the canvas and draws the sprites added since the last call, back to front.
+	 */
+	public void draw() {
+		GraphicsContext graphics = myCanvas.getGraphicsContext2D();
+		graphics.clearRect(0, 0, myCanvas.getWidth(), myCanvas.getHeight());
+		// stable, so sprites with the same z keep the order they were added in
+		myFrame.sort(BACK_TO_FRONT);
+		for (Entry entry : myFrame) {
+			draw(graphics, entry);
+		}
+		myFrame.clear();
+	}
+
+	private void draw(GraphicsContext graphics, Entry entry) {
+		graphics.save();
+		// the same flip as an ImageView with scale x -1 for sprites facing right
+		graphics.translate(entry.myFacingLeft ? entry.myX : entry.myX + entry.myWidth, entry.myY);
+		if (!entry.myFacingLeft) {
+			graphics.scale(-1, 1);
+		}
+		TextureAtlas atlas = myRenderer.getAtlas();
+		if (entry.myStyle == ImageStyle.TILE) {
+			Image tiles = myRenderer.getTiles(entry.myImagePath, entry.myWidth, entry.myHeight);
+			graphics.drawImage(tiles, 0, 0, entry.myWidth, entry.myHeight);
+		} else if (atlas != null && atlas.contains(entry.myImagePath)) {
+			Rectangle2D region = atlas.getViewport(entry.myImagePath);
+			graphics.drawImage(atlas.getPage(entry.myImagePath), region.getMinX(), region.getMinY(),
+					region.getWidth(), region.getHeight(), 0, 0, entry.myWidth, entry.myHeight);
+		} else {
+			graphics.drawImage(ImageCache.getInstance().get(entry.myImagePath), 0, 0, entry.myWidth, entry.myHeight);
+		}
+		graphics.restore();
+	}
+
+	private static class Entry {
+
+		private String myImagePath;
+		private ImageStyle myStyle;
+		private double myX, myY, myWidth, myHeight, myZ;
+		private boolean myFacingLeft;
+
+	}
+
+}
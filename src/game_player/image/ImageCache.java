@@ -0,0 +1,96 @@
+package game_player.image;
+
+import javafx.scene.image.Image;
+
+/**
+ * Decoded images shared by the whole program, so that an image used by many sprites, or by
+ * sprites that keep coming and going such as projectiles, is read and decoded only once.
+ *
+ * Images are keyed by their path and the size they were asked to be decoded at, and evicted
+ * least recently used first once their pixels take more than the byte budget. The budget is
+ * DEFAULT_MAX_BYTES unless the system property game.image.cache.bytes gives another one.
+ * Images that failed to load are returned but not kept, so that a missing file is tried again
+ * next time. The cache counts its hits, misses and evictions.
+ */
+public class ImageCache {
+
+	public static final String MAX_BYTES_PROPERTY = "game.image.cache.bytes";
+	public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+	private static final ImageCache staticInstance = new ImageCache(Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+
+	private final ImageLru myImages;
+
+	/**
+	 * @param maxBytes how many bytes of decoded pixels to keep at most
+	 */
+	public ImageCache(long maxBytes) {
+		myImages = new ImageLru(maxBytes);
+	}
+
+	public static ImageCache getInstance() {
+		return staticInstance;
+	}
+
+	/**
+	 * @return the image at the path, at its own size
+	 */
+	public Image get(String path) {
+		return get(path, 0, 0);
+	}
+
+	/**
+	 * @param width the width to decode the image at, or 0 for its own width
+	 * @param height the height to decode the image at, or 0 for its own height
+	 * @return the image at the path, decoded at the given size
+	 */
+	public Image get(String path, double width, double height) {
+		Image image = myImages.get(path, width, height);
+		if (image != null) {
+			return image;
+		}
+		// decoded outside the lock, so that other threads can use the cache meanwhile
+		image = width > 0 || height > 0 ? new Image(path, width, height, false, true) : new Image(path);
+		if (image.isError()) {
+			return image;
+		}
+		return myImages.put(path, width, height, image);
+	}
+
+	public long getHits() {
+		return myImages.getHits();
+	}
+
+	public long getMisses() {
+		return myImages.getMisses();
+	}
+
+	public long getEvictions() {
+		return myImages.getEvictions();
+	}
+
+	/**
+	 * @return the share of lookups that found their image, or 0 before the first lookup
+	 */
+	public double getHitRate() {
+		return myImages.getHitRate();
+	}
+
+	/**
+	 * @return the number of images kept
+	 */
+	public int size() {
+		return myImages.size();
+	}
+
+	/**
+	 * @return the bytes of decoded pixels kept
+	 */
+	public long getBytes() {
+		return myImages.getBytes();
+	}
+
+	public void clear() {
+		myImages.clear();
+	}
+
+}
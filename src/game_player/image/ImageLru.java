@@ -0,0 +1,142 @@
+package game_player.image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+
+/**
+ * The store behind ImageCache and TiledImageCache: images keyed by a path and a size, evicted
+ * least recently used first once their pixels take more than a byte budget. The image just
+ * added is kept even if it alone is over the budget.
+ *
+ * Every method holds the lock of the store, so it may be used from any thread. Making an image
+ * is left to the caller, outside the lock: look it up with get(), make it on a miss and offer
+ * it with put(), which keeps whichever image was put first.
+ */
+class ImageLru {
+
+	private static final int BYTES_PER_PIXEL = 4;
+
+	private final Map<Key, Image> myImages;
+	private final long myMaxBytes;
+	private long myBytes;
+	private long myHits;
+	private long myMisses;
+	private long myEvictions;
+
+	/**
+	 * @param maxBytes how many bytes of pixels to keep at most
+	 */
+	ImageLru(long maxBytes) {
+		myImages = new LinkedHashMap<>(16, 0.75f, true);
+		myMaxBytes = maxBytes;
+	}
+
+	/**
+	 * Counts a hit or a miss.
+	 *
+	 * @return the image kept for the path and size, or null
+	 */
+	synchronized Image get(String path, double width, double height) {
+		Image image = myImages.get(new Key(path, width, height));
+		if (image != null) {
+			myHits++;
+		} else {
+			myMisses++;
+		}
+		return image;
+	}
+
+	/**
+	 * @return the image kept for the path and size: the one given, unless another thread put
+	 *         one in first
+	 */
+	synchronized Image put(String path, double width, double height, Image image) {
+		Key key = new Key(path, width, height);
+		Image other = myImages.get(key);
+		if (other != null) {
+			return other;
+		}
+		myImages.put(key, image);
+		myBytes += getBytes(image);
+		evict();
+		return image;
+	}
+
+	synchronized long getHits() {
+		return myHits;
+	}
+
+	synchronized long getMisses() {
+		return myMisses;
+	}
+
+	synchronized long getEvictions() {
+		return myEvictions;
+	}
+
+	/**
+	 * @return the share of lookups that found their image, or 0 before the first lookup
+	 */
+	synchronized double getHitRate() {
+		long lookups = myHits + myMisses;
+		return lookups == 0 ? 0 : myHits / (double) lookups;
+	}
+
+	synchronized int size() {
+		return myImages.size();
+	}
+
+	synchronized long getBytes() {
+		return myBytes;
+	}
+
+	synchronized void clear() {
+		myImages.clear();
+		myBytes = 0;
+	}
+
+	private void evict() {
+		Iterator<Image> eldest = myImages.values().iterator();
+		while (myBytes > myMaxBytes && myImages.size() > 1) {
+			myBytes -= getBytes(eldest.next());
+			eldest.remove();
+			myEvictions++;
+		}
+	}
+
+	private static long getBytes(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	private static class Key {
+
+		private final String myPath;
+		private final double myWidth;
+		private final double myHeight;
+
+		private Key(String path, double width, double height) {
+			myPath = path;
+			myWidth = width;
+			myHeight = height;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) other;
+			return myPath.equals(key.myPath) && myWidth == key.myWidth && myHeight == key.myHeight;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * myPath.hashCode() + Double.hashCode(myWidth)) + Double.hashCode(myHeight);
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+package game_player.image;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import game_engine.random.RandomGenerationController;
+import game_engine.random.RandomSpriteCluster;
+import game_engine.random.SpriteInfo;
+import game_object.character.ICharacter;
+import game_object.core.Game;
+import game_object.core.ISprite;
+import game_object.core.ImageStyle;
+import game_object.level.Level;
+import game_object.powerup.IPowerUp;
+import game_object.powerup.NewWeaponPowerUp;
+import game_object.weapon.WeaponModel;
+
+/**
+ * Finds every image a game may show fitted to a sprite, which is how the TextureAtlas draws
+ * them: those of the sprites of its levels, of the projectiles its weapons fire, and of the
+ * sprites its random clusters generate.
+ *
+ * Backgrounds and the images of ImageStyle.TILE sprites are left out. They are drawn whole,
+ * from the ImageCache and the TiledImageCache, so packing them as well would decode and hold
+ * the largest images of a game twice.
+ */
+public class ImagePathCollector {
+
+	/**
+	 * @return the distinct fitted image paths of the game, in the order they were found
+	 */
+	public static Set<String> collect(Game game) {
+		Set<String> paths = new LinkedHashSet<>();
+		for (Level level : game.getAllLevelsReadOnly()) {
+			for (ISprite sprite : level.getAllSprites()) {
+				if (sprite.getImageStyle() != ImageStyle.TILE) {
+					addAll(paths, sprite.getImagePaths());
+				}
+				if (sprite instanceof ICharacter && ((ICharacter) sprite).getCurrentWeapon() != null) {
+					addWeapon(paths, ((ICharacter) sprite).getCurrentWeapon().getModel());
+				}
+			}
+			for (IPowerUp powerUp : level.getPowerUps()) {
+				if (powerUp instanceof NewWeaponPowerUp) {
+					addWeapon(paths, ((NewWeaponPowerUp) powerUp).getWeaponModel());
+				}
+			}
+		}
+		RandomGenerationController generator = game.getRandomGenerationController();
+		if (generator != null) {
+			for (RandomSpriteCluster cluster : generator.getClusters()) {
+				for (SpriteInfo info : cluster.getSpriteInfos()) {
+					addAll(paths, info.getImagePaths());
+				}
+			}
+		}
+		return paths;
+	}
+
+	private static void addWeapon(Set<String> paths, WeaponModel model) {
+		if (model == null) {
+			return;
+		}
+		addAll(paths, model.getImagePaths());
+		if (model.getProjectileModel() != null) {
+			addAll(paths, model.getProjectileModel().getImagePaths());
+		}
+	}
+
+	private static void addAll(Set<String> paths, Collection<String> imagePaths) {
+		if (imagePaths == null) {
+			return;
+		}
+		for (String path : imagePaths) {
+			if (path != null && !path.isEmpty()) {
+				paths.add(path);
+			}
+		}
+	}
+
+}
@@ -14,7 +14,45 @@ public class ImageRenderer {
 	private ImageStyle myStyle;
 	private double myWidth;
 	private double myHeight;
+	private TextureAtlas myAtlas;
 
+	/**
+	 * @param atlas the atlas to draw fitted images from, or null to give each image its own
+	 */
+	public void setAtlas(TextureAtlas atlas) {
+		myAtlas = atlas;
+	}
+
+	/**
+	 * @return the atlas fitted images are drawn from, or null if there is none
+	 */
+	public TextureAtlas getAtlas() {
+		return myAtlas;
+	}
+
+	/**
+	 * Same as render(Image, ...) with the image at the path: a region of the atlas if it holds
+	 * the image, otherwise the image taken from the ImageCache. Tiled images are taken from the
+	 * TiledImageCache, see getTiles.
+	 */
+	public ImageView render(String imagePath, ImageStyle style, double width, double height) {
+		if (style == ImageStyle.TILE) {
+			return new ImageView(getTiles(imagePath, width, height));
+		}
+		if (myAtlas != null && myAtlas.contains(imagePath)) {
+			ImageView imageView = new ImageView(myAtlas.getPage(imagePath));
+			imageView.setViewport(myAtlas.getViewport(imagePath));
+			imageView.setFitHeight(height);
+			imageView.setFitWidth(width);
+			return imageView;
+		}
+		return render(ImageCache.getInstance().get(imagePath), style, width, height);
+	}
+
+	/**
+	 * Renders the image as it is given, without keeping a tiled snapshot, e.g. for the sizes a
+	 * sprite goes through while it is being resized, which are each shown only once.
+	 */
 	public ImageView render(Image image, ImageStyle style, double width, double height) {
 		myImage = image;
 		myStyle = style;
@@ -35,11 +73,23 @@ public class ImageRenderer {
 	}
 
 	private ImageView tileImages() {
-		Rectangle myContent = new Rectangle(myWidth, myHeight);
-		ImagePattern pattern = new ImagePattern(myImage, 0, 0, myImage.getWidth(), myImage.getHeight(), false);
+		return new ImageView(snapshotTiles(myImage, myWidth, myHeight));
+	}
+
+	/**
+	 * @return the image at the path tiled over width by height, rendered offscreen only the
+	 *         first time it is asked for and then kept in the TiledImageCache
+	 */
+	public Image getTiles(String imagePath, double width, double height) {
+		return TiledImageCache.getInstance().get(imagePath, width, height,
+				() -> snapshotTiles(ImageCache.getInstance().get(imagePath), width, height));
+	}
+
+	private static WritableImage snapshotTiles(Image image, double width, double height) {
+		Rectangle myContent = new Rectangle(width, height);
+		ImagePattern pattern = new ImagePattern(image, 0, 0, image.getWidth(), image.getHeight(), false);
 		myContent.setFill(pattern);
-		WritableImage snapshot = myContent.snapshot(new SnapshotParameters(), null);
-		return new ImageView(snapshot);
+		return myContent.snapshot(new SnapshotParameters(), null);
 	}
 
 }
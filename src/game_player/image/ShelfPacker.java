@@ -0,0 +1,78 @@
+package game_player.image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Places rectangles on pages of a fixed size, in rows ("shelves") filled left to right, the
+ * tallest rectangles first so that each row wastes little height. A rectangle that does not
+ * fit on the current page starts a new one; one larger than a page is not placed at all.
+ */
+class ShelfPacker {
+
+	private final int myPageSize;
+	private final int myPadding;
+	private final List<int[]> myPageSizes;
+
+	/**
+	 * @param padding the empty pixels kept around every rectangle, so that smoothing does not
+	 *        blend in the pixels of a neighbour
+	 */
+	ShelfPacker(int pageSize, int padding) {
+		myPageSize = pageSize;
+		myPadding = padding;
+		myPageSizes = new ArrayList<>();
+	}
+
+	/**
+	 * @return for every rectangle its page, x and y, or null if it is larger than a page
+	 */
+	int[][] pack(int[] widths, int[] heights) {
+		myPageSizes.clear();
+		Integer[] order = new Integer[widths.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingInt((Integer i) -> -heights[i]).thenComparingInt(i -> i));
+		int[][] places = new int[widths.length][];
+		int page = -1;
+		int x = 0, y = 0, shelfHeight = 0;
+		for (int i : order) {
+			int width = widths[i] + 2 * myPadding;
+			int height = heights[i] + 2 * myPadding;
+			if (width > myPageSize || height > myPageSize) {
+				continue;
+			}
+			if (page >= 0 && x + width > myPageSize) {
+				// next shelf
+				y += shelfHeight;
+				x = 0;
+				shelfHeight = 0;
+			}
+			if (page < 0 || y + height > myPageSize) {
+				page++;
+				myPageSizes.add(new int[2]);
+				x = 0;
+				y = 0;
+				shelfHeight = 0;
+			}
+			places[i] = new int[] { page, x + myPadding, y + myPadding };
+			x += width;
+			shelfHeight = Math.max(shelfHeight, height);
+			int[] size = myPageSizes.get(page);
+			size[0] = Math.max(size[0], x);
+			size[1] = Math.max(size[1], y + shelfHeight);
+		}
+		return places;
+	}
+
+	/**
+	 * @return the width and height each page of the last pack() needs, at most the page size
+	 */
+	List<int[]> getPageSizes() {
+		return myPageSizes;
+	}
+
+}
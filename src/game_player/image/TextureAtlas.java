@@ -0,0 +1,119 @@
+package game_player.image;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The images of a game packed into a few large pages, so that sprites are drawn as regions of
+ * a shared image instead of each from an Image of its own. That keeps one texture per page on
+ * the graphics card rather than one per image, and only the pages are kept in memory.
+ *
+ * Images that fail to load or are larger than PAGE_SIZE are left out; contains() tells which
+ * paths made it in.
+ */
+public class TextureAtlas {
+
+	public static final int PAGE_SIZE = 2048;
+	// keeps smoothing at the edge of a region from blending in its neighbours
+	private static final int PADDING = 1;
+
+	private final List<WritableImage> myPages;
+	private final Map<String, Region> myRegions;
+
+	private TextureAtlas() {
+		myPages = new ArrayList<>();
+		myRegions = new HashMap<>();
+	}
+
+	/**
+	 * Loads the images at the paths and packs them into pages.
+	 */
+	public static TextureAtlas pack(Collection<String> paths) {
+		List<String> names = new ArrayList<>();
+		List<Image> images = new ArrayList<>();
+		for (String path : paths) {
+			Image image;
+			try {
+				image = new Image(path);
+			} catch (IllegalArgumentException e) {
+				// not a valid URL; the sprite will fail to load on its own as well
+				continue;
+			}
+			if (!image.isError() && image.getPixelReader() != null) {
+				names.add(path);
+				images.add(image);
+			}
+		}
+		int[] widths = new int[images.size()];
+		int[] heights = new int[images.size()];
+		for (int i = 0; i < images.size(); i++) {
+			widths[i] = (int) images.get(i).getWidth();
+			heights[i] = (int) images.get(i).getHeight();
+		}
+		ShelfPacker packer = new ShelfPacker(PAGE_SIZE, PADDING);
+		int[][] places = packer.pack(widths, heights);
+		TextureAtlas atlas = new TextureAtlas();
+		for (int[] size : packer.getPageSizes()) {
+			atlas.myPages.add(new WritableImage(size[0], size[1]));
+		}
+		for (int i = 0; i < images.size(); i++) {
+			int[] place = places[i];
+			if (place == null) {
+				continue;
+			}
+			WritableImage page = atlas.myPages.get(place[0]);
+			PixelReader reader = images.get(i).getPixelReader();
+			page.getPixelWriter().setPixels(place[1], place[2], widths[i], heights[i], reader, 0, 0);
+			atlas.myRegions.put(names.get(i), new Region(page,
+					new Rectangle2D(place[1], place[2], widths[i], heights[i])));
+		}
+		return atlas;
+	}
+
+	public boolean contains(String path) {
+		return myRegions.containsKey(path);
+	}
+
+	/**
+	 * @return the page the image at the path was packed into
+	 */
+	public Image getPage(String path) {
+		return myRegions.get(path).myPage;
+	}
+
+	/**
+	 * @return where on its page the image at the path is, to be used as an ImageView viewport
+	 */
+	public Rectangle2D getViewport(String path) {
+		return myRegions.get(path).myViewport;
+	}
+
+	public int getPageCount() {
+		return myPages.size();
+	}
+
+	public int size() {
+		return myRegions.size();
+	}
+
+	private static class Region {
+
+		private final Image myPage;
+		private final Rectangle2D myViewport;
+
+		private Region(Image page, Rectangle2D viewport) {
+			myPage = page;
+			myViewport = viewport;
+		}
+
+	}
+
+}
@@ -0,0 +1,64 @@
+package game_player.image;
+
+import java.util.function.Supplier;
+
+import javafx.scene.image.Image;
+
+/**
+ * The tiled snapshots ImageRenderer makes for ImageStyle.TILE sprites, shared by every
+ * renderer, so that the blocks of a level, of the next level and of the authoring canvas that
+ * tile the same image at the same size are rendered offscreen only once.
+ *
+ * Snapshots are keyed by the path of the tiled image and the size, not by the Image, so that
+ * a snapshot neither keeps an image the ImageCache evicted alive nor goes stale when the image
+ * is decoded again. They are evicted least recently used first once their pixels take more
+ * than MAX_BYTES. The cache locks as the ImageCache does, but snapshots can only be rendered on
+ * the JavaFX thread.
+ */
+public class TiledImageCache {
+
+	public static final long MAX_BYTES = 64L * 1024 * 1024;
+	private static final TiledImageCache staticInstance = new TiledImageCache(MAX_BYTES);
+
+	private final ImageLru myTiles;
+
+	/**
+	 * @param maxBytes how many bytes of snapshot pixels to keep at most
+	 */
+	public TiledImageCache(long maxBytes) {
+		myTiles = new ImageLru(maxBytes);
+	}
+
+	public static TiledImageCache getInstance() {
+		return staticInstance;
+	}
+
+	/**
+	 * @param snapshot renders the image tiled over the size, if it is not kept yet
+	 * @return the image at the path tiled over width by height
+	 */
+	public Image get(String path, double width, double height, Supplier<? extends Image> snapshot) {
+		Image tiles = myTiles.get(path, width, height);
+		if (tiles != null) {
+			return tiles;
+		}
+		return myTiles.put(path, width, height, snapshot.get());
+	}
+
+	public long getHits() {
+		return myTiles.getHits();
+	}
+
+	public long getMisses() {
+		return myTiles.getMisses();
+	}
+
+	public long getBytes() {
+		return myTiles.getBytes();
+	}
+
+	public void clear() {
+		myTiles.clear();
+	}
+
+}
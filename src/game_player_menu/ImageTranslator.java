@@ -1,5 +1,6 @@
 package game_player_menu;
 
+import game_player.image.ImageCache;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -14,10 +15,13 @@ public class ImageTranslator extends NodeTranslator {
 */
 	@Override
 	public Node createNode(String text, boolean isSelectable, ISelectable listener){
-		Image currImage = new Image(text);
+		double width = Double.parseDouble(myResources.getString("ItemDescriptionImageWidth"));
+		double height = Double.parseDouble(myResources.getString("ItemDescriptionImageHeight"));
+		// decoded at the size it is shown at, since game covers can be large
+		Image currImage = ImageCache.getInstance().get(text, width, height);
 		ImageView view = new ImageView(currImage);
-		view.setFitWidth(Double.parseDouble(myResources.getString("ItemDescriptionImageWidth")));
-		view.setFitHeight(Double.parseDouble(myResources.getString("ItemDescriptionImageHeight")));
+		view.setFitWidth(width);
+		view.setFitHeight(height);
 		if(isSelectable){
 			makeImageViewSelectable(view, listener);
 		}
@@ -14,9 +14,10 @@ public class ReachPointGoal extends PositionGoal {
 
 	@Override
 	public boolean checkGoal() {
-		Boundary charBoundary = new Boundary(myCharacter.getPosition(),myCharacter.getDimension());
-		Boundary goalBoundary = new Boundary(myDestinationSprite.getPosition(),myDestinationSprite.getDimension());
-		return charBoundary.overlaps(goalBoundary);
+		return Boundary.overlaps(myCharacter.getPosition().getX(), myCharacter.getPosition().getY(),
+				myCharacter.getDimension().getWidth(), myCharacter.getDimension().getHeight(),
+				myDestinationSprite.getPosition().getX(), myDestinationSprite.getPosition().getY(),
+				myDestinationSprite.getDimension().getWidth(), myDestinationSprite.getDimension().getHeight());
 	}
 	
 	@Override
@@ -0,0 +1,89 @@
+package headless;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import game_engine.GameEngine_Game;
+import game_engine.log.Log;
+import game_engine.transition.HeadlessTransitionManager;
+import game_object.constants.DefaultConstants;
+import game_object.core.Game;
+import game_player.IEndListener;
+import serializing.Marshaller;
+
+/**
+ * Runs a game for a number of ticks without any UI, e.g. for batch runs, CI or on a server.
+ *
+ * Usage: HeadlessRunner game.xml ticks [input script]
+ *
+ * The game is loaded through the Marshaller and ticked as fast as possible, with the input
+ * from an InputScript. The JavaFX classes a saved game refers to (e.g. KeyCode) still have to
+ * be on the class path, but no JavaFX toolkit or window is ever started.
+ */
+public class HeadlessRunner implements IEndListener {
+
+	private final Game myGame;
+	private final GameEngine_Game myEngine;
+	private boolean myEnded;
+
+	public HeadlessRunner(Game game) {
+		myGame = game;
+		myEngine = new GameEngine_Game(game, this,
+				new HeadlessTransitionManager(game, game.getAllLevelsReadOnly().get(0)));
+		myEngine.suppressLogDebug();
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("usage: HeadlessRunner game.xml ticks [input script]");
+			System.exit(1);
+		}
+		Game game = Marshaller.loadGameFromFile(new File(args[0]));
+		int ticks = Integer.parseInt(args[1]);
+		InputScript script = args.length > 2 ? InputScript.read(new File(args[2])) : new InputScript();
+		System.out.print(new HeadlessRunner(game).run(ticks, script));
+		Log.flush();
+	}
+
+	/**
+	 * Runs the game for the given number of ticks, or until it ends.
+	 */
+	public SimulationReport run(int ticks, InputScript script) {
+		double elapsedTime = DefaultConstants.TIME_SCALE * myEngine.getTickLength();
+		long allocatedBefore = getAllocatedBytes();
+		long start = System.nanoTime();
+		int tick = 0;
+		while (tick < ticks && !myEnded) {
+			myEngine.setInputList(script.getPressedKeys(tick));
+			myEngine.update(elapsedTime);
+			tick++;
+		}
+		long nanos = System.nanoTime() - start;
+		long allocatedAfter = getAllocatedBytes();
+		long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+		return new SimulationReport(tick, nanos, allocated, myEnded, myGame.getCurrentLevel(),
+				myEngine.getProfiler().getAllStatistics());
+	}
+
+	@Override
+	public void onEnd() {
+		myEnded = true;
+	}
+
+	/**
+	 * @return the bytes allocated by this thread so far, or -1 if the JVM does not count them
+	 */
+	private long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
+}
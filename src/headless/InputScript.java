@@ -0,0 +1,124 @@
+package headless;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import game_object.acting.Event;
+import game_object.acting.KeyEvent;
+import game_object.core.ExceptionThrower;
+import javafx.scene.input.KeyCode;
+
+/**
+ * Keys pressed and released at given ticks, standing in for a player.
+ *
+ * A script file has one change per line, e.g. "120 press D" or "180 release D", with
+ * the tick, press or release, and the name of a KeyCode. Empty lines and lines starting with
+ * # are skipped. KeyCode is a plain enum, so no JavaFX toolkit is started.
+ */
+public class InputScript {
+
+	private static final String PRESS = "press";
+	private static final String RELEASE = "release";
+	private static final String COMMENT = "#";
+
+	private final Map<Integer, List<KeyChange>> myChanges;
+	private final Set<Event> myPressedKeys;
+
+	public InputScript() {
+		myChanges = new HashMap<>();
+		myPressedKeys = new HashSet<>();
+	}
+
+	public static InputScript read(File file) throws IOException {
+		InputScript script = new InputScript();
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith(COMMENT)) {
+					continue;
+				}
+				script.readLine(line, lineNumber);
+			}
+		}
+		return script;
+	}
+
+	public void press(int tick, Event key) {
+		getChanges(tick).add(new KeyChange(key, true));
+	}
+
+	public void release(int tick, Event key) {
+		getChanges(tick).add(new KeyChange(key, false));
+	}
+
+	/**
+	 * Applies the changes of the tick; ticks have to be asked for in order.
+	 * @return the keys held down during the tick
+	 */
+	public Set<Event> getPressedKeys(int tick) {
+		List<KeyChange> changes = myChanges.get(tick);
+		if (changes != null) {
+			for (KeyChange change : changes) {
+				if (change.myPressed) {
+					myPressedKeys.add(change.myKey);
+				} else {
+					myPressedKeys.remove(change.myKey);
+				}
+			}
+		}
+		return myPressedKeys;
+	}
+
+	private void readLine(String line, int lineNumber) {
+		String[] parts = line.split("\\s+");
+		if (parts.length != 3 || !(PRESS.equals(parts[1]) || RELEASE.equals(parts[1]))) {
+			ExceptionThrower.illegalArgs("line " + lineNumber + ": expected \"<tick> press|release <key>\"");
+		}
+		int tick;
+		KeyCode code;
+		try {
+			tick = Integer.parseInt(parts[0]);
+			code = KeyCode.valueOf(parts[2]);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage(), e);
+		}
+		if (PRESS.equals(parts[1])) {
+			press(tick, new KeyEvent(code));
+		} else {
+			release(tick, new KeyEvent(code));
+		}
+	}
+
+	private List<KeyChange> getChanges(int tick) {
+		List<KeyChange> changes = myChanges.get(tick);
+		if (changes == null) {
+			changes = new ArrayList<>();
+			myChanges.put(tick, changes);
+		}
+		return changes;
+	}
+
+	private static class KeyChange {
+
+		private final Event myKey;
+		private final boolean myPressed;
+
+		private KeyChange(Event key, boolean pressed) {
+			myKey = key;
+			myPressed = pressed;
+		}
+
+	}
+
+}
@@ -0,0 +1,130 @@
+package headless;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import game_engine.profiling.PhaseStatistics;
+import game_engine.profiling.ProfilerPhase;
+import game_object.character.Hero;
+import game_object.level.Level;
+
+/**
+ * What a HeadlessRunner run did: how many ticks, how fast, how much it allocated, and the
+ * state the game was left in.
+ */
+public class SimulationReport {
+
+	private static final DecimalFormat staticDF2 = new DecimalFormat("0.##");
+
+	private final int myTicks;
+	private final long myNanos;
+	private final long myAllocatedBytes;
+	private final boolean myEnded;
+	private final String myLevelId;
+	private final int mySpriteCount;
+	private final List<String> myHeros;
+	private final Map<ProfilerPhase, PhaseStatistics> myPhases;
+
+	SimulationReport(int ticks, long nanos, long allocatedBytes, boolean ended, Level level,
+			Map<ProfilerPhase, PhaseStatistics> phases) {
+		myTicks = ticks;
+		myNanos = nanos;
+		myAllocatedBytes = allocatedBytes;
+		myEnded = ended;
+		myLevelId = level == null ? null : level.getId();
+		mySpriteCount = level == null ? 0 : level.getAllSprites().size();
+		List<String> heros = new ArrayList<>();
+		if (level != null) {
+			for (Hero hero : level.getHeros()) {
+				heros.add(describe(hero));
+			}
+		}
+		myHeros = Collections.unmodifiableList(heros);
+		myPhases = Collections.unmodifiableMap(phases);
+	}
+
+	public int getTicks() {
+		return myTicks;
+	}
+
+	public double getTicksPerSecond() {
+		return myNanos == 0 ? 0 : myTicks / (myNanos / 1e9);
+	}
+
+	/**
+	 * @return bytes allocated by the simulation thread, or -1 if the JVM cannot tell
+	 */
+	public long getAllocatedBytes() {
+		return myAllocatedBytes;
+	}
+
+	public long getAllocatedBytesPerTick() {
+		return myAllocatedBytes < 0 || myTicks == 0 ? -1 : myAllocatedBytes / myTicks;
+	}
+
+	/**
+	 * @return whether the game ended, won or lost, before all ticks were run
+	 */
+	public boolean isEnded() {
+		return myEnded;
+	}
+
+	public String getLevelId() {
+		return myLevelId;
+	}
+
+	public int getSpriteCount() {
+		return mySpriteCount;
+	}
+
+	/**
+	 * @return one line per hero with its position, health and score
+	 */
+	public List<String> getHeros() {
+		return myHeros;
+	}
+
+	/**
+	 * @return how long each phase of a tick took, over the last ticks of the run
+	 */
+	public Map<ProfilerPhase, PhaseStatistics> getPhases() {
+		return myPhases;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("ticks: ").append(myTicks).append('\n');
+		sb.append("ticks/s: ").append(staticDF2.format(getTicksPerSecond())).append('\n');
+		sb.append("allocated bytes: ").append(myAllocatedBytes)
+				.append(" (").append(getAllocatedBytesPerTick()).append(" per tick)").append('\n');
+		sb.append("ended: ").append(myEnded).append('\n');
+		sb.append("level: ").append(myLevelId).append('\n');
+		sb.append("sprites: ").append(mySpriteCount).append('\n');
+		for (String hero : myHeros) {
+			sb.append("hero: ").append(hero).append('\n');
+		}
+		for (Map.Entry<ProfilerPhase, PhaseStatistics> entry : myPhases.entrySet()) {
+			PhaseStatistics phase = entry.getValue();
+			if (phase.getSamples() > 0) {
+				sb.append(entry.getKey()).append(" p50/p99/max us: ")
+						.append(staticDF2.format(phase.getMedian() / 1e3)).append(" / ")
+						.append(staticDF2.format(phase.getP99() / 1e3)).append(" / ")
+						.append(staticDF2.format(phase.getMax() / 1e3)).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	private String describe(Hero hero) {
+		return "x=" + staticDF2.format(hero.getPosition().getX()) +
+				" y=" + staticDF2.format(hero.getPosition().getY()) +
+				" hp=" + staticDF2.format(hero.getCurrentHP()) +
+				" score=" + staticDF2.format(hero.getTotalScore()) +
+				" dead=" + hero.getDead();
+	}
+
+}
@@ -0,0 +1,73 @@
+package network.core;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream that counts the bytes read through it and remembers when the first of them
+ * arrived, so that a message can be timed from its arrival rather than from when reading it
+ * started to wait.
+ */
+class CountingInputStream extends FilterInputStream {
+
+	private long myCount;
+	private long myFirstByteNanos = -1;
+
+	CountingInputStream(InputStream in) {
+		super(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b >= 0) {
+			count(1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = super.read(b, off, len);
+		if (n > 0) {
+			count(n);
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		if (skipped > 0) {
+			count(skipped);
+		}
+		return skipped;
+	}
+
+	/**
+	 * Forgets when the first byte arrived, so that the next byte read counts as the first.
+	 */
+	void restartClock() {
+		myFirstByteNanos = -1;
+	}
+
+	long getCount() {
+		return myCount;
+	}
+
+	/**
+	 * @return System.nanoTime() when the first byte was read, or -1 if none was
+	 */
+	long getFirstByteNanos() {
+		return myFirstByteNanos;
+	}
+
+	private void count(long n) {
+		if (myFirstByteNanos < 0) {
+			myFirstByteNanos = System.nanoTime();
+		}
+		myCount += n;
+	}
+
+}
@@ -0,0 +1,47 @@
+package network.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import network.messages.Message;
+
+/**
+ * A Flight Recorder event for every message the Receiver reads from its connection, recorded
+ * at the moment it was deserialized. The connection sits idle between messages, so the event
+ * has no duration of its own; the read time is counted from the first byte of the message.
+ */
+@Name("game.network.MessageReceived")
+@Label("Message Received")
+@Category({ "Game", "Network" })
+@Description("A message read from a connection")
+@StackTrace(false)
+public class MessageReceivedEvent extends Event {
+
+	@Label("Message Type")
+	String messageType;
+
+	@Label("Sender")
+	String sender;
+
+	@Label("Size")
+	@DataAmount
+	long size;
+
+	@Label("Read Time")
+	@Description("From the first byte of the message arriving until it was deserialized")
+	@Timespan(Timespan.NANOSECONDS)
+	long readTime;
+
+	void set(Message msg, long bytes, long readNanos) {
+		this.messageType = msg.getClass().getSimpleName();
+		this.sender = msg.getSender();
+		this.size = bytes;
+		this.readTime = readNanos;
+	}
+
+}
@@ -0,0 +1,33 @@
+package network.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import network.messages.Message;
+
+/**
+ * A Flight Recorder event for every message the Sender writes to its connection,
+ * lasting as long as serializing and writing it took.
+ */
+@Name("game.network.MessageSent")
+@Label("Message Sent")
+@Category({ "Game", "Network" })
+@Description("A message written to a connection")
+@StackTrace(false)
+public class MessageSentEvent extends Event {
+
+	@Label("Message Type")
+	String messageType;
+
+	@Label("Sender")
+	String sender;
+
+	void set(Message msg) {
+		this.messageType = msg.getClass().getSimpleName();
+		this.sender = msg.getSender();
+	}
+
+}
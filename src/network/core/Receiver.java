@@ -38,9 +38,16 @@ public class Receiver extends Thread {
 	public void run() {
 		while (!connection.isClosed()) {
 			try {
-				ObjectInputStream objectInputStream =
-						new ObjectInputStream(connection.getSocket().getInputStream());
+				CountingInputStream input = new CountingInputStream(connection.getSocket().getInputStream());
+				ObjectInputStream objectInputStream = new ObjectInputStream(input);
+				// the Sender writes the stream header before it waits for a message
+				input.restartClock();
 				Message msg = (Message) objectInputStream.readObject();
+				MessageReceivedEvent event = new MessageReceivedEvent();
+				if (event.shouldCommit()) {
+					event.set(msg, input.getCount(), System.nanoTime() - input.getFirstByteNanos());
+					event.commit();
+				}
 				LOGGER.info("Receiver " + this.getId() +
 							" received msg: " + msg + 
 							" from " + msg.getSender());
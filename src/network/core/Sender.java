@@ -36,8 +36,15 @@ public class Sender extends Thread {
 				ObjectOutputStream outputStream =
 						new ObjectOutputStream(connection.getSocket().getOutputStream());
 				Message msg = outGoingBuffer.take();
+				MessageSentEvent event = new MessageSentEvent();
+				event.begin();
 				outputStream.writeObject(msg);
 				outputStream.flush();
+				event.end();
+				if (event.shouldCommit()) {
+					event.set(msg);
+					event.commit();
+				}
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 			} catch (IOException e) {
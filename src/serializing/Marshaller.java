@@ -28,20 +28,41 @@ public class Marshaller {
 	//"file:" before the real file path
 	
 	public static void saveGame(Game game, String destPath) throws IOException {
-		try (Writer writer = new BufferedWriter(new FileWriter(destPath.substring(FILE_OFFSET)))) {
+		SerializationEvent event = new SerializationEvent();
+		event.begin();
+		String path = destPath.substring(FILE_OFFSET);
+		try (Writer writer = new BufferedWriter(new FileWriter(path))) {
 			String output = mySerializer.toXML(game);
 			writer.write(output);
 		}
+		commit(event, "save", new File(path));
 	}
 	
 	public static Game loadGame(String srcPath) throws IOException {
-		try(BufferedReader br = new BufferedReader(new FileReader(srcPath.substring(FILE_OFFSET)))) {
-			return (Game)mySerializer.fromXML(br);
+		SerializationEvent event = new SerializationEvent();
+		event.begin();
+		String path = srcPath.substring(FILE_OFFSET);
+		try(BufferedReader br = new BufferedReader(new FileReader(path))) {
+			Game game = (Game)mySerializer.fromXML(br);
+			commit(event, "load", new File(path));
+			return game;
 		}
 	}
 	
 	public static Game loadGameFromFile(File f){
-		return (Game)mySerializer.fromXML(f);
+		SerializationEvent event = new SerializationEvent();
+		event.begin();
+		Game game = (Game)mySerializer.fromXML(f);
+		commit(event, "load", f);
+		return game;
+	}
+	
+	private static void commit(SerializationEvent event, String operation, File file) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.set(operation, file.getPath(), file.length());
+			event.commit();
+		}
 	}
 	
 }
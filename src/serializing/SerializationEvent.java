@@ -0,0 +1,35 @@
+package serializing;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for every game the Marshaller loads or saves.
+ */
+@Name("game.serializing.Serialization")
+@Label("Game Load or Save")
+@Category({ "Game", "Serializing" })
+@Description("A game read from or written to XML by the Marshaller")
+public class SerializationEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Path")
+	String path;
+
+	@Label("Size")
+	@DataAmount
+	long size;
+
+	void set(String operationName, String filePath, long bytes) {
+		operation = operationName;
+		path = filePath;
+		size = bytes;
+	}
+
+}